@@ -1,5 +1,6 @@
 package com.student.management.config;
 
+import java.time.Duration;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import tech.jhipster.config.JHipsterProperties;
@@ -14,11 +15,34 @@ public class ApplicationProperties {
 
     private final Liquibase liquibase = new Liquibase();
 
+    private final Dashboard dashboard = new Dashboard();
+
+    private final PaymentImport paymentImport = new PaymentImport();
+
+    private final StudentImport studentImport = new StudentImport();
+
+    private final QueryInstrumentation queryInstrumentation = new QueryInstrumentation();
 
     public Liquibase getLiquibase() {
         return liquibase;
     }
 
+    public Dashboard getDashboard() {
+        return dashboard;
+    }
+
+    public PaymentImport getPaymentImport() {
+        return paymentImport;
+    }
+
+    public StudentImport getStudentImport() {
+        return studentImport;
+    }
+
+    public QueryInstrumentation getQueryInstrumentation() {
+        return queryInstrumentation;
+    }
+
 
     public static class Liquibase {
 
@@ -32,4 +56,120 @@ public class ApplicationProperties {
             this.asyncStart = asyncStart;
         }
     }
+
+    public static class Dashboard {
+
+        /**
+         * Number of dashboard sections computed concurrently.
+         */
+        private int concurrency = 4;
+
+        /**
+         * Time after which a section still being computed is given up.
+         */
+        private Duration sectionTimeout = Duration.ofSeconds(10);
+
+        /**
+         * Whether to return the dashboard without the sections that failed or timed out, instead of failing the whole dashboard.
+         */
+        private boolean partialResults = true;
+
+        public int getConcurrency() {
+            return concurrency;
+        }
+
+        public void setConcurrency(int concurrency) {
+            this.concurrency = concurrency;
+        }
+
+        public Duration getSectionTimeout() {
+            return sectionTimeout;
+        }
+
+        public void setSectionTimeout(Duration sectionTimeout) {
+            this.sectionTimeout = sectionTimeout;
+        }
+
+        public boolean isPartialResults() {
+            return partialResults;
+        }
+
+        public void setPartialResults(boolean partialResults) {
+            this.partialResults = partialResults;
+        }
+    }
+
+    public static class PaymentImport {
+
+        /**
+         * Number of imported payments written per transaction.
+         */
+        private int chunkSize = 500;
+
+        public int getChunkSize() {
+            return chunkSize;
+        }
+
+        public void setChunkSize(int chunkSize) {
+            this.chunkSize = chunkSize;
+        }
+    }
+
+    public static class StudentImport {
+
+        /**
+         * Number of imported students written per transaction.
+         */
+        private int chunkSize = 500;
+
+        public int getChunkSize() {
+            return chunkSize;
+        }
+
+        public void setChunkSize(int chunkSize) {
+            this.chunkSize = chunkSize;
+        }
+    }
+
+    public static class QueryInstrumentation {
+
+        /**
+         * Whether to count the statements, entity loads, collection fetches and JDBC time of each REST request.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Whether to return the counts of each request in the {@code X-Query-Counts} response header.
+         */
+        private boolean responseHeader = false;
+
+        /**
+         * Number of statements above which a request is logged as a warning.
+         */
+        private int statementThreshold = 30;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public boolean isResponseHeader() {
+            return responseHeader;
+        }
+
+        public void setResponseHeader(boolean responseHeader) {
+            this.responseHeader = responseHeader;
+        }
+
+        public int getStatementThreshold() {
+            return statementThreshold;
+        }
+
+        public void setStatementThreshold(int statementThreshold) {
+            this.statementThreshold = statementThreshold;
+        }
+    }
 }
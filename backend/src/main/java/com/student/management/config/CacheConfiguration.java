@@ -0,0 +1,79 @@
+package com.student.management.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
+import org.springframework.boot.autoconfigure.cache.JCacheManagerCustomizer;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.jcache.JCacheCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Caffeine caches behind the JCache API, used as the Hibernate second-level cache and for the users looked up on
+ * authentication.
+ * <p>
+ * Only the reference entities and the users, read far more often than they are written, are cached. The caches are
+ * created at startup, so that Spring Boot binds their statistics to the {@code cache.gets} and {@code cache.puts}
+ * metrics, tagged with {@code result} hit or miss.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfiguration {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CacheConfiguration.class);
+
+    private final javax.cache.configuration.Configuration<Object, Object> jcacheConfiguration;
+
+    public CacheConfiguration(StudentManagementProperties studentManagementProperties) {
+        StudentManagementProperties.Cache.Caffeine caffeine = studentManagementProperties.getCache().getCaffeine();
+        LOG.debug("Creating Caffeine caches of {} entries for {} seconds", caffeine.getMaxEntries(), caffeine.getTimeToLiveSeconds());
+
+        CaffeineConfiguration<Object, Object> caffeineConfiguration = new CaffeineConfiguration<>();
+        caffeineConfiguration.setMaximumSize(OptionalLong.of(caffeine.getMaxEntries()));
+        caffeineConfiguration.setExpireAfterWrite(OptionalLong.of(TimeUnit.SECONDS.toNanos(caffeine.getTimeToLiveSeconds())));
+        caffeineConfiguration.setStatisticsEnabled(true);
+        jcacheConfiguration = caffeineConfiguration;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernatePropertiesCustomizer(javax.cache.CacheManager cacheManager) {
+        return hibernateProperties -> hibernateProperties.put(ConfigSettings.CACHE_MANAGER, cacheManager);
+    }
+
+    /**
+     * Defer the puts and evictions of the Spring caches to the commit of the current transaction, so that a user read
+     * while it is being changed is not cached again with its old password or authorities.
+     */
+    @Bean
+    public CacheManagerCustomizer<JCacheCacheManager> transactionAwareCacheManagerCustomizer() {
+        return cacheManager -> cacheManager.setTransactionAware(true);
+    }
+
+    @Bean
+    public JCacheManagerCustomizer cacheManagerCustomizer() {
+        return cm -> {
+            createCache(cm, com.student.management.repository.UserRepository.USERS_BY_LOGIN_CACHE);
+            createCache(cm, com.student.management.repository.UserRepository.USERS_BY_EMAIL_CACHE);
+            createCache(cm, com.student.management.domain.Authority.class.getName());
+            createCache(cm, com.student.management.domain.Subject.class.getName());
+            createCache(cm, com.student.management.domain.StudentGroup.class.getName());
+            createCache(cm, com.student.management.domain.StudentGroup.class.getName() + ".subjects");
+            createCache(cm, com.student.management.domain.User.class.getName() + ".authorities");
+        };
+    }
+
+    private void createCache(javax.cache.CacheManager cm, String cacheName) {
+        javax.cache.Cache<Object, Object> cache = cm.getCache(cacheName);
+        if (cache != null) {
+            cache.clear();
+        } else {
+            cm.createCache(cacheName, jcacheConfiguration);
+        }
+    }
+}
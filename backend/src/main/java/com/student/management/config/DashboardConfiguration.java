@@ -0,0 +1,39 @@
+package com.student.management.config;
+
+import com.student.management.management.QueryCounts;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class DashboardConfiguration {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DashboardConfiguration.class);
+
+    private final ApplicationProperties applicationProperties;
+
+    public DashboardConfiguration(ApplicationProperties applicationProperties) {
+        this.applicationProperties = applicationProperties;
+    }
+
+    /**
+     * Bounded pool computing the dashboard sections. Each section holds a database connection while it runs,
+     * so the pool size also bounds the connections used by the dashboard. The sections add to the query counts
+     * of the request they are computed for.
+     */
+    @Bean(name = "dashboardSectionExecutor")
+    public ThreadPoolTaskExecutor dashboardSectionExecutor() {
+        LOG.debug("Creating Dashboard Section Executor");
+        int concurrency = applicationProperties.getDashboard().getConcurrency();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency);
+        executor.setQueueCapacity(concurrency * 16);
+        executor.setThreadNamePrefix("dashboard-section-");
+        executor.setDaemon(true);
+        executor.setTaskDecorator(QueryCounts::propagate);
+        return executor;
+    }
+}
@@ -1,12 +1,68 @@
 package com.student.management.config;
 
+import com.zaxxer.hikari.HikariDataSource;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 
 @Configuration
 @EnableJpaRepositories({ "com.student.management.repository" })
 @EnableJpaAuditing(auditorAwareRef = "springSecurityAuditorAware")
 @EnableTransactionManagement
-public class DatabaseConfiguration {}
+public class DatabaseConfiguration {
+
+    /**
+     * Read/write splitting, enabled when {@code spring.datasource.replica.jdbc-url} is set.
+     * <p>
+     * The primary pool is configured by {@code spring.datasource}, as without replica, and the replica pool by
+     * {@code spring.datasource.replica}, bound as Hikari properties. Both pools are beans, so that each gets its own
+     * {@code hikaricp.*} metrics, tagged with its pool name.
+     * <p>
+     * Connections are only fetched from a pool on their first statement: a transaction marked
+     * {@code @Transactional(readOnly = true)} flags its connection as read-only before that, and is sent to the replica,
+     * every other transaction goes to the primary. A read-only transaction may not see the writes not yet replicated:
+     * the reads that must see them, such as the dashboard snapshot recomputed after a change, run in read-write
+     * transactions.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty("spring.datasource.replica.jdbc-url")
+    static class ReplicaDataSourceConfiguration {
+
+        private static final Logger LOG = LoggerFactory.getLogger(ReplicaDataSourceConfiguration.class);
+
+        @Bean
+        @ConfigurationProperties("spring.datasource.hikari")
+        public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+            return dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        }
+
+        @Bean
+        @ConfigurationProperties("spring.datasource.replica")
+        public HikariDataSource replicaDataSource() {
+            return new HikariDataSource();
+        }
+
+        @Bean
+        @Primary
+        public DataSource dataSource(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            @Qualifier("replicaDataSource") DataSource replicaDataSource
+        ) {
+            LOG.info("Routing read-only transactions to the replica datasource");
+            LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+            dataSource.setReadOnlyDataSource(replicaDataSource);
+            return dataSource;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.student.management.config;
+
+import com.student.management.service.PaymentRevenueRollupService;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Rebuilds the payment revenue rollup from the payment table when the application is started
+ * with the {@code --rebuild-payment-revenue-rollup} option.
+ */
+@Configuration
+public class PaymentRevenueRollupRebuildConfiguration implements ApplicationRunner {
+
+    public static final String REBUILD_OPTION = "rebuild-payment-revenue-rollup";
+
+    private final PaymentRevenueRollupService paymentRevenueRollupService;
+
+    public PaymentRevenueRollupRebuildConfiguration(PaymentRevenueRollupService paymentRevenueRollupService) {
+        this.paymentRevenueRollupService = paymentRevenueRollupService;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!args.containsOption(REBUILD_OPTION)) {
+            return;
+        }
+        paymentRevenueRollupService.rebuild();
+    }
+}
@@ -0,0 +1,72 @@
+package com.student.management.config;
+
+import com.student.management.management.QueryCountDataSource;
+import com.student.management.management.QueryCountIntegrator;
+import com.student.management.management.QueryCountInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import javax.sql.DataSource;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Opt-in instrumentation of the database work of each REST request, enabled by
+ * {@code application.query-instrumentation.enabled}.
+ * <p>
+ * The application datasource is wrapped to count the statements and their JDBC time, whether they are run by Hibernate
+ * or by a {@code JdbcTemplate}. Hibernate reports the entity loads and collection fetches through event listeners. The
+ * counts are published as the {@code request.*} meters, tagged by controller method, and with
+ * {@code application.query-instrumentation.response-header} in the {@code X-Query-Counts} header.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "application.query-instrumentation", name = "enabled", havingValue = "true")
+public class QueryInstrumentationConfiguration implements WebMvcConfigurer {
+
+    private static final Logger LOG = LoggerFactory.getLogger(QueryInstrumentationConfiguration.class);
+
+    private static final String DATA_SOURCE_BEAN_NAME = "dataSource";
+
+    private final ApplicationProperties applicationProperties;
+
+    private final MeterRegistry meterRegistry;
+
+    public QueryInstrumentationConfiguration(ApplicationProperties applicationProperties, MeterRegistry meterRegistry) {
+        this.applicationProperties = applicationProperties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Bean
+    public static BeanPostProcessor queryCountDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                // Only the datasource used by the application, which may route to the replica
+                if (DATA_SOURCE_BEAN_NAME.equals(beanName) && bean instanceof DataSource dataSource) {
+                    LOG.debug("Counting the statements of each REST request");
+                    return new QueryCountDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer queryCountHibernatePropertiesCustomizer() {
+        return hibernateProperties ->
+            hibernateProperties.put("hibernate.integrator_provider", (IntegratorProvider) () -> List.of(new QueryCountIntegrator()));
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        int statementThreshold = applicationProperties.getQueryInstrumentation().getStatementThreshold();
+        registry.addInterceptor(new QueryCountInterceptor(meterRegistry, statementThreshold)).addPathPatterns("/api/**");
+    }
+}
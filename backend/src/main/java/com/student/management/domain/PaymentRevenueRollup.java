@@ -0,0 +1,158 @@
+package com.student.management.domain;
+
+import com.student.management.domain.enumeration.Status;
+import jakarta.persistence.*;
+import java.io.Serializable;
+
+/**
+ * Pre-aggregated payment amounts per calendar month (UTC), status and student group.
+ * <p>
+ * Rows are maintained incrementally by the payment service on every payment write,
+ * and can be rebuilt from the {@code payment} table at any time.
+ * Payments without a student group are counted under {@link #NO_STUDENT_GROUP}.
+ */
+@Entity
+@Table(name = "payment_revenue_rollup")
+@IdClass(PaymentRevenueRollupId.class)
+@SuppressWarnings("common-java:DuplicatedBlocks")
+public class PaymentRevenueRollup implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    public static final long NO_STUDENT_GROUP = 0L;
+
+    @Id
+    @Column(name = "year", nullable = false)
+    private Integer year;
+
+    @Id
+    @Column(name = "month", nullable = false)
+    private Integer month;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 50, nullable = false)
+    private Status status;
+
+    @Id
+    @Column(name = "student_group_id", nullable = false)
+    private Long studentGroupId;
+
+    @Column(name = "payment_count", nullable = false)
+    private Long paymentCount;
+
+    @Column(name = "amount", nullable = false)
+    private Double amount;
+
+    public PaymentRevenueRollupId getId() {
+        return new PaymentRevenueRollupId(year, month, status, studentGroupId);
+    }
+
+    public Integer getYear() {
+        return this.year;
+    }
+
+    public PaymentRevenueRollup year(Integer year) {
+        this.setYear(year);
+        return this;
+    }
+
+    public void setYear(Integer year) {
+        this.year = year;
+    }
+
+    public Integer getMonth() {
+        return this.month;
+    }
+
+    public PaymentRevenueRollup month(Integer month) {
+        this.setMonth(month);
+        return this;
+    }
+
+    public void setMonth(Integer month) {
+        this.month = month;
+    }
+
+    public Status getStatus() {
+        return this.status;
+    }
+
+    public PaymentRevenueRollup status(Status status) {
+        this.setStatus(status);
+        return this;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    public Long getStudentGroupId() {
+        return this.studentGroupId;
+    }
+
+    public PaymentRevenueRollup studentGroupId(Long studentGroupId) {
+        this.setStudentGroupId(studentGroupId);
+        return this;
+    }
+
+    public void setStudentGroupId(Long studentGroupId) {
+        this.studentGroupId = studentGroupId;
+    }
+
+    public Long getPaymentCount() {
+        return this.paymentCount;
+    }
+
+    public PaymentRevenueRollup paymentCount(Long paymentCount) {
+        this.setPaymentCount(paymentCount);
+        return this;
+    }
+
+    public void setPaymentCount(Long paymentCount) {
+        this.paymentCount = paymentCount;
+    }
+
+    public Double getAmount() {
+        return this.amount;
+    }
+
+    public PaymentRevenueRollup amount(Double amount) {
+        this.setAmount(amount);
+        return this;
+    }
+
+    public void setAmount(Double amount) {
+        this.amount = amount;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof PaymentRevenueRollup)) {
+            return false;
+        }
+        PaymentRevenueRollup other = (PaymentRevenueRollup) o;
+        return getYear() != null && getId().equals(other.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "PaymentRevenueRollup{" +
+            "year=" + getYear() +
+            ", month=" + getMonth() +
+            ", status='" + getStatus() + "'" +
+            ", studentGroupId=" + getStudentGroupId() +
+            ", paymentCount=" + getPaymentCount() +
+            ", amount=" + getAmount() +
+            "}";
+    }
+}
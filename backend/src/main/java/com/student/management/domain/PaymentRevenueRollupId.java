@@ -0,0 +1,68 @@
+package com.student.management.domain;
+
+import com.student.management.domain.enumeration.Status;
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * Composite identifier of {@link PaymentRevenueRollup}.
+ */
+public class PaymentRevenueRollupId implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Integer year;
+
+    private Integer month;
+
+    private Status status;
+
+    private Long studentGroupId;
+
+    public PaymentRevenueRollupId() {}
+
+    public PaymentRevenueRollupId(Integer year, Integer month, Status status, Long studentGroupId) {
+        this.year = year;
+        this.month = month;
+        this.status = status;
+        this.studentGroupId = studentGroupId;
+    }
+
+    public Integer getYear() {
+        return year;
+    }
+
+    public Integer getMonth() {
+        return month;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public Long getStudentGroupId() {
+        return studentGroupId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof PaymentRevenueRollupId)) {
+            return false;
+        }
+        PaymentRevenueRollupId other = (PaymentRevenueRollupId) o;
+        return (
+            Objects.equals(year, other.year) &&
+            Objects.equals(month, other.month) &&
+            status == other.status &&
+            Objects.equals(studentGroupId, other.studentGroupId)
+        );
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(year, month, status, studentGroupId);
+    }
+}
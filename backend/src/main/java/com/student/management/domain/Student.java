@@ -23,7 +23,7 @@ public class Student implements Serializable {
     @Column(name = "id")
     private Long id;
 
-    @OneToOne(fetch = FetchType.EAGER)
+    @OneToOne(fetch = FetchType.LAZY)
     @MapsId
     @JoinColumn(name = "id")
     private User user;
@@ -36,7 +36,7 @@ public class Student implements Serializable {
     @JsonIgnoreProperties(value = { "student" }, allowSetters = true)
     private Set<Payment> payments = new HashSet<>();
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JsonIgnoreProperties(value = { "students", "subjects" }, allowSetters = true)
     private StudentGroup studentGroup;
 
@@ -0,0 +1,88 @@
+package com.student.management.management;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Datasource adding the statements run on its connections, and the time spent executing them, to the
+ * {@link QueryCounts} of the current thread.
+ * <p>
+ * Wrapping the datasource counts every JDBC path the same way: the statements of Hibernate as well as those of a
+ * {@code JdbcTemplate}, such as the revenue scans and the bulk imports.
+ */
+public class QueryCountDataSource extends DelegatingDataSource {
+
+    public QueryCountDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return countingConnection(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return countingConnection(super.getConnection(username, password));
+    }
+
+    private static Connection countingConnection(Connection connection) {
+        return proxy(Connection.class, (proxy, method, args) -> {
+            if (method.getName().equals("equals")) {
+                return proxy == args[0];
+            } else if (method.getName().equals("hashCode")) {
+                return System.identityHashCode(proxy);
+            }
+            Object result = invoke(connection, method, args);
+            if (result instanceof Statement statement && !method.getName().equals("unwrap")) {
+                QueryCounts counts = QueryCounts.current();
+                if (counts != null) {
+                    counts.addStatement();
+                }
+                return countingStatement(statement);
+            }
+            return result;
+        });
+    }
+
+    private static Statement countingStatement(Statement statement) {
+        Class<? extends Statement> type = statement instanceof CallableStatement
+            ? CallableStatement.class
+            : statement instanceof PreparedStatement ? PreparedStatement.class : Statement.class;
+        return proxy(type, (proxy, method, args) -> {
+            if (!method.getName().startsWith("execute")) {
+                return invoke(statement, method, args);
+            }
+            long start = System.nanoTime();
+            try {
+                return invoke(statement, method, args);
+            } finally {
+                QueryCounts counts = QueryCounts.current();
+                if (counts != null) {
+                    counts.addJdbcTime(System.nanoTime() - start);
+                }
+            }
+        });
+    }
+
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(QueryCountDataSource.class.getClassLoader(), new Class<?>[] { type }, handler));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.student.management.management;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.InitializeCollectionEventListener;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+
+/**
+ * Hibernate integrator adding the entities loaded, from the database or the second-level cache, and the lazy
+ * collections fetched to the {@link QueryCounts} of the current thread.
+ */
+public class QueryCountIntegrator implements Integrator {
+
+    @Override
+    public void integrate(Metadata metadata, BootstrapContext bootstrapContext, SessionFactoryImplementor sessionFactory) {
+        EventListenerRegistry eventListenerRegistry = sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class);
+        PostLoadEventListener entityLoadListener = event -> {
+            QueryCounts counts = QueryCounts.current();
+            if (counts != null) {
+                counts.addEntityLoad();
+            }
+        };
+        InitializeCollectionEventListener collectionFetchListener = event -> {
+            QueryCounts counts = QueryCounts.current();
+            if (counts != null) {
+                counts.addCollectionFetch();
+            }
+        };
+        eventListenerRegistry.appendListeners(EventType.POST_LOAD, entityLoadListener);
+        eventListenerRegistry.appendListeners(EventType.INIT_COLLECTION, collectionFetchListener);
+    }
+
+    @Override
+    public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {}
+}
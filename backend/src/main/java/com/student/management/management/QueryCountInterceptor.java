@@ -0,0 +1,81 @@
+package com.student.management.management;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Interceptor counting the database work of each REST request with {@link QueryCounts}.
+ * <p>
+ * The counts are recorded in meters tagged with the controller method, and a request running more than the threshold
+ * of statements is logged as a warning.
+ */
+public class QueryCountInterceptor implements HandlerInterceptor {
+
+    private static final Logger LOG = LoggerFactory.getLogger(QueryCountInterceptor.class);
+
+    public static final String STATEMENTS_METER_NAME = "request.sql.statements";
+    public static final String ENTITY_LOADS_METER_NAME = "request.entity.loads";
+    public static final String COLLECTION_FETCHES_METER_NAME = "request.collection.fetches";
+    public static final String JDBC_TIME_METER_NAME = "request.jdbc.time";
+    public static final String HANDLER_DIMENSION = "handler";
+
+    private final MeterRegistry meterRegistry;
+
+    private final int statementThreshold;
+
+    public QueryCountInterceptor(MeterRegistry meterRegistry, int statementThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.statementThreshold = statementThreshold;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod) {
+            QueryCounts.start();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        QueryCounts counts = QueryCounts.current();
+        if (counts == null) {
+            return;
+        }
+        QueryCounts.stop();
+        String handlerName = handlerName((HandlerMethod) handler);
+        summary(STATEMENTS_METER_NAME, "JDBC statements prepared per request", "statements", handlerName).record(counts.getStatements());
+        summary(ENTITY_LOADS_METER_NAME, "Entities loaded per request", "entities", handlerName).record(counts.getEntityLoads());
+        summary(COLLECTION_FETCHES_METER_NAME, "Collections fetched per request", "collections", handlerName).record(
+            counts.getCollectionFetches()
+        );
+        Timer.builder(JDBC_TIME_METER_NAME)
+            .description("Time spent executing JDBC statements per request")
+            .tag(HANDLER_DIMENSION, handlerName)
+            .register(meterRegistry)
+            .record(counts.getJdbcTime(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS);
+        if (counts.getStatements() > statementThreshold) {
+            LOG.warn("{} {} ran {} statements, more than {}: {}", request.getMethod(), handlerName, counts.getStatements(), statementThreshold, counts);
+        }
+    }
+
+    private DistributionSummary summary(String name, String description, String baseUnit, String handlerName) {
+        return DistributionSummary.builder(name)
+            .description(description)
+            .baseUnit(baseUnit)
+            .tag(HANDLER_DIMENSION, handlerName)
+            .register(meterRegistry);
+    }
+
+    private static String handlerName(HandlerMethod handlerMethod) {
+        return handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName();
+    }
+}
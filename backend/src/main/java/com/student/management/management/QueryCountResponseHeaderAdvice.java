@@ -0,0 +1,42 @@
+package com.student.management.management;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Debugging aid returning the {@link QueryCounts} of a request in the {@code X-Query-Counts} header.
+ * The header is written with the body, so it only covers responses with a body, and the work done up to then.
+ */
+@ControllerAdvice
+@ConditionalOnProperty(prefix = "application.query-instrumentation", name = { "enabled", "response-header" }, havingValue = "true")
+public class QueryCountResponseHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String HEADER_NAME = "X-Query-Counts";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(
+        Object body,
+        MethodParameter returnType,
+        MediaType selectedContentType,
+        Class<? extends HttpMessageConverter<?>> selectedConverterType,
+        ServerHttpRequest request,
+        ServerHttpResponse response
+    ) {
+        QueryCounts counts = QueryCounts.current();
+        if (counts != null) {
+            response.getHeaders().set(HEADER_NAME, counts.toString());
+        }
+        return body;
+    }
+}
@@ -0,0 +1,120 @@
+package com.student.management.management;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts of the database work done for one REST request: JDBC statements prepared, by Hibernate or by a
+ * {@code JdbcTemplate}, entities loaded, collections fetched and time spent executing JDBC statements.
+ * <p>
+ * The counts of the current request are bound to its thread, and can be carried to the threads working for it with
+ * {@link #propagate(Runnable)}.
+ */
+public final class QueryCounts {
+
+    private static final ThreadLocal<QueryCounts> CURRENT = new ThreadLocal<>();
+
+    private final LongAdder statements = new LongAdder();
+
+    private final LongAdder entityLoads = new LongAdder();
+
+    private final LongAdder collectionFetches = new LongAdder();
+
+    private final LongAdder jdbcNanos = new LongAdder();
+
+    private QueryCounts() {}
+
+    /**
+     * Start counting for the current thread.
+     *
+     * @return the new counts.
+     */
+    public static QueryCounts start() {
+        QueryCounts counts = new QueryCounts();
+        CURRENT.set(counts);
+        return counts;
+    }
+
+    /**
+     * Get the counts of the current thread.
+     *
+     * @return the counts, {@code null} if the current thread is not counted.
+     */
+    public static QueryCounts current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Stop counting for the current thread.
+     */
+    public static void stop() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Wrap a task so that it adds to the counts of the thread submitting it, if any.
+     *
+     * @param task the task.
+     * @return the wrapped task.
+     */
+    public static Runnable propagate(Runnable task) {
+        QueryCounts counts = CURRENT.get();
+        if (counts == null) {
+            return task;
+        }
+        return () -> {
+            CURRENT.set(counts);
+            try {
+                task.run();
+            } finally {
+                CURRENT.remove();
+            }
+        };
+    }
+
+    public long getStatements() {
+        return statements.sum();
+    }
+
+    public long getEntityLoads() {
+        return entityLoads.sum();
+    }
+
+    public long getCollectionFetches() {
+        return collectionFetches.sum();
+    }
+
+    public long getJdbcTime(TimeUnit unit) {
+        return unit.convert(jdbcNanos.sum(), TimeUnit.NANOSECONDS);
+    }
+
+    void addStatement() {
+        statements.increment();
+    }
+
+    void addEntityLoad() {
+        entityLoads.increment();
+    }
+
+    void addCollectionFetch() {
+        collectionFetches.increment();
+    }
+
+    void addJdbcTime(long nanos) {
+        jdbcNanos.add(nanos);
+    }
+
+    @Override
+    public String toString() {
+        return (
+            "statements=" +
+            getStatements() +
+            ", entity-loads=" +
+            getEntityLoads() +
+            ", collection-fetches=" +
+            getCollectionFetches() +
+            ", jdbc-time-ms=" +
+            getJdbcTime(TimeUnit.MILLISECONDS)
+        );
+    }
+}
@@ -2,12 +2,57 @@ package com.student.management.repository;
 
 
 import com.student.management.domain.CourseAssignment;
+import com.student.management.repository.projection.ProfessorActivity;
+import com.student.management.repository.projection.ProfessorAssignmentRow;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface CourseAssignmentRepository extends JpaRepository<CourseAssignment, Long> {
     List<CourseAssignment> findByStudentGroupId(Long studentGroupId);
     List<CourseAssignment> findBySubjectId(Long subjectId);
     List<CourseAssignment> findByProfessorId(Long professorId);
-}
\ No newline at end of file
+
+    /**
+     * Get the course assignments of some professors, with their subject and student group.
+     *
+     * @param professorIds the ids of the professors.
+     * @return the assignments of the professors, by id.
+     */
+    @Query(
+        "select courseAssignment from CourseAssignment courseAssignment join fetch courseAssignment.subject " +
+        "join fetch courseAssignment.studentGroup where courseAssignment.professor.id in :professorIds order by courseAssignment.id"
+    )
+    List<CourseAssignment> findByProfessorIdIn(@Param("professorIds") Collection<Long> professorIds);
+
+    /**
+     * Get the course assignments of a professor as flat rows, without loading any entity.
+     *
+     * @param professorId the id of the professor.
+     * @return the assignments of the professor.
+     */
+    @Query(
+        "select new com.student.management.repository.projection.ProfessorAssignmentRow(courseAssignment.id, subject.id, subject.name, studentGroup.id, studentGroup.name) " +
+        "from CourseAssignment courseAssignment join courseAssignment.subject subject join courseAssignment.studentGroup studentGroup " +
+        "where courseAssignment.professor.id = :professorId"
+    )
+    List<ProfessorAssignmentRow> findAssignmentRowsByProfessorId(@Param("professorId") Long professorId);
+
+    /**
+     * Get the latest course assignments with the name of their professor, subject and student group.
+     *
+     * @param pageable the pagination information, used to limit the number of assignments returned.
+     * @return the latest course assignments, newest first.
+     */
+    @Query(
+        "select new com.student.management.repository.projection.ProfessorActivity(courseAssignment.id, professor.id, " +
+        "concat(coalesce(professorUser.firstName, ''), ' ', coalesce(professorUser.lastName, '')), subject.name, studentGroup.id, studentGroup.name) " +
+        "from CourseAssignment courseAssignment join courseAssignment.professor professor left join professor.user professorUser " +
+        "join courseAssignment.subject subject join courseAssignment.studentGroup studentGroup order by courseAssignment.id desc"
+    )
+    List<ProfessorActivity> findProfessorActivities(Pageable pageable);
+}
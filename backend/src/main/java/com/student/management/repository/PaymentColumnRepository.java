@@ -0,0 +1,90 @@
+package com.student.management.repository;
+
+import com.student.management.domain.enumeration.Status;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+/**
+ * JDBC repository streaming the payment table as primitive columns.
+ * <p>
+ * The database converts every column to a number, so reading a row allocates nothing
+ * and a range of payments can be aggregated without materializing a single entity.
+ */
+@Repository
+public class PaymentColumnRepository {
+
+    /**
+     * Makes MySQL Connector/J stream the rows instead of buffering the whole result set in memory.
+     */
+    private static final int STREAMING_FETCH_SIZE = Integer.MIN_VALUE;
+
+    private static final String SCAN_QUERY =
+        "select timestampdiff(microsecond, '1970-01-01 00:00:00', payment.date) div 1000, payment.amount, " +
+        statusOrdinalExpression() +
+        ", coalesce(student.student_group_id, " +
+        PaymentColumnVisitor.NO_STUDENT_GROUP +
+        ") from payment left join student on student.id = payment.student_id";
+
+    /**
+     * Compares the stored dates with UTC instants given in microseconds since the epoch, without any time zone conversion.
+     */
+    static final String SCAN_RANGE_QUERY =
+        SCAN_QUERY +
+        " where payment.date >= date_add('1970-01-01 00:00:00', interval ? microsecond)" +
+        " and payment.date < date_add('1970-01-01 00:00:00', interval ? microsecond)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PaymentColumnRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Visit once every payment dated within a range, in no particular order.
+     * Dates are stored in UTC, see {@code hibernate.jdbc.time_zone}, so they are read back as UTC epoch milliseconds.
+     *
+     * @param from the start of the range, included.
+     * @param to the end of the range, excluded.
+     * @param visitor the visitor receiving the payments.
+     */
+    public void scan(Instant from, Instant to, PaymentColumnVisitor visitor) {
+        scan(SCAN_RANGE_QUERY, visitor, ChronoUnit.MICROS.between(Instant.EPOCH, from), ChronoUnit.MICROS.between(Instant.EPOCH, to));
+    }
+
+    private void scan(String query, PaymentColumnVisitor visitor, long... parameters) {
+        jdbcTemplate.query(
+            connection -> {
+                PreparedStatement statement = connection.prepareStatement(query, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                statement.setFetchSize(STREAMING_FETCH_SIZE);
+                for (int i = 0; i < parameters.length; i++) {
+                    statement.setLong(i + 1, parameters[i]);
+                }
+                return statement;
+            },
+            (RowCallbackHandler) resultSet -> {
+                long date = resultSet.getLong(1);
+                if (resultSet.wasNull()) {
+                    date = PaymentColumnVisitor.NO_DATE;
+                }
+                double amount = resultSet.getDouble(2);
+                if (resultSet.wasNull()) {
+                    amount = Double.NaN;
+                }
+                visitor.visit(date, amount, resultSet.getByte(3), resultSet.getLong(4));
+            }
+        );
+    }
+
+    private static String statusOrdinalExpression() {
+        StringBuilder expression = new StringBuilder("case payment.status");
+        for (Status status : Status.values()) {
+            expression.append(" when '").append(status.name()).append("' then ").append(status.ordinal());
+        }
+        return expression.append(" else ").append(PaymentColumnVisitor.NO_STATUS).append(" end").toString();
+    }
+}
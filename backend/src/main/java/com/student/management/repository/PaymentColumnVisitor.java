@@ -0,0 +1,32 @@
+package com.student.management.repository;
+
+/**
+ * Callback receiving the payments of a {@link PaymentColumnRepository} scan one row at a time, as primitive columns.
+ */
+@FunctionalInterface
+public interface PaymentColumnVisitor {
+    /**
+     * Value of {@code date} for a payment without date.
+     */
+    long NO_DATE = Long.MIN_VALUE;
+
+    /**
+     * Value of {@code status} for a payment without status.
+     */
+    byte NO_STATUS = -1;
+
+    /**
+     * Value of {@code studentGroupId} for a payment whose student has no group.
+     */
+    long NO_STUDENT_GROUP = 0L;
+
+    /**
+     * Visit one payment.
+     *
+     * @param date the date of the payment in epoch milliseconds, or {@link #NO_DATE}.
+     * @param amount the amount of the payment, or {@link Double#NaN} if it has none.
+     * @param status the ordinal of the {@link com.student.management.domain.enumeration.Status} of the payment, or {@link #NO_STATUS}.
+     * @param studentGroupId the id of the group of the paying student, or {@link #NO_STUDENT_GROUP}.
+     */
+    void visit(long date, double amount, byte status, long studentGroupId);
+}
@@ -1,7 +1,20 @@
 package com.student.management.repository;
 
 import com.student.management.domain.Payment;
+import com.student.management.repository.projection.PaymentAmountSummary;
+import com.student.management.repository.projection.PaymentExportRow;
+import com.student.management.repository.projection.PaymentRevenueEntry;
+import com.student.management.repository.projection.RecentPayment;
+import jakarta.persistence.QueryHint;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -11,5 +24,123 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface PaymentRepository extends JpaRepository<Payment, Long> {
     // Find all payments for a specific student
+    @EntityGraph(attributePaths = { "student", "student.user" })
     java.util.List<Payment> findByStudentId(Long studentId);
+
+    /**
+     * Get a page of payments with their student and its user, the payments of a page being serialized with them.
+     *
+     * @param pageable the pagination information.
+     * @return the page of payments.
+     */
+    @EntityGraph(attributePaths = { "student", "student.user" })
+    Page<Payment> findAll(Pageable pageable);
+
+    /**
+     * Get a payment with its student and the user of the student.
+     *
+     * @param id the id of the payment.
+     * @return the payment, or empty if it does not exist.
+     */
+    @Query(
+        "select payment from Payment payment left join fetch payment.student student left join fetch student.user where payment.id = :id"
+    )
+    Optional<Payment> findOneWithToOneRelationships(@Param("id") Long id);
+
+    /**
+     * Get the fields of a payment that feed the revenue rollup.
+     *
+     * @param id the id of the payment.
+     * @return the rollup fields, or empty if the payment does not exist.
+     */
+    @Query(
+        "select new com.student.management.repository.projection.PaymentRevenueEntry(payment.date, payment.status, studentGroup.id, payment.amount) " +
+        "from Payment payment left join payment.student student left join student.studentGroup studentGroup where payment.id = :id"
+    )
+    Optional<PaymentRevenueEntry> findRevenueEntryById(@Param("id") Long id);
+
+    /**
+     * Count the payments and average their amounts in a single statement, including the payments without date or status
+     * which have no bucket in the revenue rollup.
+     *
+     * @return the number of payments and their average amount.
+     */
+    @Query(
+        "select new com.student.management.repository.projection.PaymentAmountSummary(count(payment), avg(payment.amount)) " +
+        "from Payment payment"
+    )
+    PaymentAmountSummary summarizeAmounts();
+
+    /**
+     * Get the most recent payments with the name of their student, latest first.
+     *
+     * @param pageable the pagination information, used to limit the number of payments returned.
+     * @return the most recent payments.
+     */
+    @Query(
+        "select new com.student.management.repository.projection.RecentPayment(payment.id, payment.amount, payment.status, payment.date, student.id, " +
+        "concat(coalesce(studentUser.firstName, ''), ' ', coalesce(studentUser.lastName, ''))) " +
+        "from Payment payment left join payment.student student left join student.user studentUser order by payment.date desc"
+    )
+    List<RecentPayment> findRecentPayments(Pageable pageable);
+
+    /**
+     * Get the first payments, latest first, the payments without date coming last by decreasing id.
+     *
+     * @param pageable the pagination information, used to limit the number of payments returned.
+     * @return the first payments.
+     */
+    @EntityGraph(attributePaths = { "student", "student.user" })
+    @Query("select payment from Payment payment order by payment.date desc, payment.id desc")
+    List<Payment> findAllOrderByDateDesc(Pageable pageable);
+
+    /**
+     * Get the payments following a payment with a date, in the order of {@link #findAllOrderByDateDesc(Pageable)}.
+     * The seek predicate only reads the index entries after the payment, without skipping rows.
+     *
+     * @param date the date of the payment.
+     * @param id the id of the payment.
+     * @param pageable the pagination information, used to limit the number of payments returned.
+     * @return the following payments.
+     */
+    @EntityGraph(attributePaths = { "student", "student.user" })
+    @Query(
+        "select payment from Payment payment " +
+        "where payment.date < :date or (payment.date = :date and payment.id < :id) or payment.date is null " +
+        "order by payment.date desc, payment.id desc"
+    )
+    List<Payment> findAllAfter(@Param("date") Instant date, @Param("id") Long id, Pageable pageable);
+
+    /**
+     * Get the payments following a payment without date, in the order of {@link #findAllOrderByDateDesc(Pageable)}.
+     *
+     * @param id the id of the payment.
+     * @param pageable the pagination information, used to limit the number of payments returned.
+     * @return the following payments.
+     */
+    @EntityGraph(attributePaths = { "student", "student.user" })
+    @Query("select payment from Payment payment where payment.date is null and payment.id < :id order by payment.id desc")
+    List<Payment> findAllWithoutDateAfter(@Param("id") Long id, Pageable pageable);
+
+    /**
+     * Stream every payment as a flat row, by id.
+     * Rows are streamed by the driver instead of being buffered, and are not managed by the persistence context,
+     * so the memory used does not depend on the number of payments. The stream must be consumed in a transaction, then closed.
+     *
+     * @return the payments.
+     */
+    @QueryHints(
+        {
+            // Makes MySQL Connector/J stream the rows of the forward-only result set
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        }
+    )
+    @Query(
+        "select new com.student.management.repository.projection.PaymentExportRow(payment.id, student.id, payment.amount, payment.status, payment.date, " +
+        "concat(coalesce(studentUser.firstName, ''), ' ', coalesce(studentUser.lastName, '')), studentGroup.id, studentGroup.name) " +
+        "from Payment payment left join payment.student student left join student.user studentUser left join student.studentGroup studentGroup " +
+        "order by payment.id"
+    )
+    Stream<PaymentExportRow> streamAllForExport();
 }
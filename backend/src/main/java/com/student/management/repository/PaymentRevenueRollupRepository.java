@@ -0,0 +1,126 @@
+package com.student.management.repository;
+
+import com.student.management.domain.PaymentRevenueRollup;
+import com.student.management.domain.PaymentRevenueRollupId;
+import com.student.management.domain.enumeration.Status;
+import com.student.management.repository.projection.MonthlyRevenue;
+import com.student.management.repository.projection.StatusAmount;
+import com.student.management.repository.projection.StudentGroupAmount;
+import jakarta.persistence.QueryHint;
+import java.util.List;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Spring Data JPA repository for the PaymentRevenueRollup entity.
+ * <p>
+ * The native writes declare the rollup table as their only query space. Without it, Hibernate would evict every
+ * second-level cache region on each payment write.
+ */
+@Repository
+public interface PaymentRevenueRollupRepository extends JpaRepository<PaymentRevenueRollup, PaymentRevenueRollupId> {
+    /**
+     * Atomically add a delta to a rollup bucket, creating the bucket if it does not exist yet.
+     *
+     * @param year the year of the bucket.
+     * @param month the month of the bucket, from 1 to 12.
+     * @param status the name of the payment status of the bucket.
+     * @param studentGroupId the student group of the bucket.
+     * @param paymentCount the number of payments to add, negative to remove payments.
+     * @param amount the amount to add, negative to remove an amount.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "payment_revenue_rollup"))
+    @Query(
+        value = "insert into payment_revenue_rollup (year, month, status, student_group_id, payment_count, amount) " +
+        "values (:year, :month, :status, :studentGroupId, :paymentCount, :amount) as delta " +
+        "on duplicate key update payment_count = payment_revenue_rollup.payment_count + delta.payment_count, " +
+        "amount = payment_revenue_rollup.amount + delta.amount",
+        nativeQuery = true
+    )
+    void increment(
+        @Param("year") int year,
+        @Param("month") int month,
+        @Param("status") String status,
+        @Param("studentGroupId") long studentGroupId,
+        @Param("paymentCount") long paymentCount,
+        @Param("amount") double amount
+    );
+
+    /**
+     * Remove every rollup bucket.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "payment_revenue_rollup"))
+    @Query(value = "delete from payment_revenue_rollup", nativeQuery = true)
+    void deleteAllBuckets();
+
+    /**
+     * Recompute every rollup bucket from the payment table.
+     * Payments without date or status cannot be bucketed and are skipped.
+     * The pending payment writes are flushed first, as the query space only covers the rollup table.
+     *
+     * @return the number of buckets created.
+     */
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "payment_revenue_rollup"))
+    @Query(
+        value = "insert into payment_revenue_rollup (year, month, status, student_group_id, payment_count, amount) " +
+        "select year(payment.date), month(payment.date), payment.status, coalesce(student.student_group_id, 0), " +
+        "count(*), coalesce(sum(payment.amount), 0) " +
+        "from payment left join student on student.id = payment.student_id " +
+        "where payment.date is not null and payment.status is not null " +
+        "group by year(payment.date), month(payment.date), payment.status, coalesce(student.student_group_id, 0)",
+        nativeQuery = true
+    )
+    int insertAllBucketsFromPayments();
+
+    /**
+     * Sum the amounts of a status per month, starting at a given month.
+     *
+     * @param status the payment status.
+     * @param year the year of the first month to include.
+     * @param month the first month to include, from 1 to 12.
+     * @return one row per month having at least one bucket.
+     */
+    @Query(
+        "select new com.student.management.repository.projection.MonthlyRevenue(rollup.year, rollup.month, sum(rollup.amount)) " +
+        "from PaymentRevenueRollup rollup " +
+        "where rollup.status = :status and (rollup.year > :year or (rollup.year = :year and rollup.month >= :month)) " +
+        "group by rollup.year, rollup.month"
+    )
+    List<MonthlyRevenue> sumAmountByMonth(@Param("status") Status status, @Param("year") int year, @Param("month") int month);
+
+    /**
+     * Sum the payment counts and amounts of every month per status.
+     *
+     * @return one row per status having at least one bucket.
+     */
+    @Query(
+        "select new com.student.management.repository.projection.StatusAmount(rollup.status, sum(rollup.paymentCount), sum(rollup.amount)) " +
+        "from PaymentRevenueRollup rollup group by rollup.status"
+    )
+    List<StatusAmount> sumByStatus();
+
+    /**
+     * Sum the amounts of a status of every month per student group, highest first.
+     *
+     * @param status the payment status.
+     * @param excludedStudentGroupId a student group to leave out, such as {@link PaymentRevenueRollup#NO_STUDENT_GROUP}.
+     * @param pageable the pagination information, used to limit the number of groups returned.
+     * @return the student groups with their amount, ordered by decreasing amount.
+     */
+    @Query(
+        "select new com.student.management.repository.projection.StudentGroupAmount(rollup.studentGroupId, sum(rollup.amount)) " +
+        "from PaymentRevenueRollup rollup where rollup.status = :status and rollup.studentGroupId <> :excludedStudentGroupId " +
+        "group by rollup.studentGroupId order by sum(rollup.amount) desc, rollup.studentGroupId"
+    )
+    List<StudentGroupAmount> sumAmountByStudentGroup(
+        @Param("status") Status status,
+        @Param("excludedStudentGroupId") long excludedStudentGroupId,
+        Pageable pageable
+    );
+}
@@ -1,6 +1,7 @@
 package com.student.management.repository;
 
 import com.student.management.domain.StudentGroup;
+import com.student.management.repository.projection.StudentGroupName;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
@@ -16,6 +17,17 @@ import org.springframework.stereotype.Repository;
  */
 @Repository
 public interface StudentGroupRepository extends StudentGroupRepositoryWithBagRelationships, JpaRepository<StudentGroup, Long> {
+    /**
+     * Get the name of every student group, without loading them.
+     *
+     * @return one row per student group.
+     */
+    @Query(
+        "select new com.student.management.repository.projection.StudentGroupName(studentGroup.id, studentGroup.name) " +
+        "from StudentGroup studentGroup"
+    )
+    List<StudentGroupName> findAllNames();
+
     default Optional<StudentGroup> findOneWithEagerRelationships(Long id) {
         return this.fetchBagRelationships(this.findById(id));
     }
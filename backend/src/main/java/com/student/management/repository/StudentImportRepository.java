@@ -0,0 +1,133 @@
+package com.student.management.repository;
+
+import com.student.management.domain.User;
+import jakarta.persistence.EntityManager;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * JDBC repository inserting imported students, with their user, in batches.
+ * <p>
+ * The ids are allocated up front from the sequence of the {@link User} entity, so that the logins derived from them
+ * are known before the rows are written, and every table is written with a single batched statement.
+ * The rows bypass the persistence context: they must be written in a transaction, and are not visible
+ * to the entities already loaded in it.
+ */
+@Repository
+public class StudentImportRepository {
+
+    private static final String INSERT_USER =
+        "insert into user (id, login, password_hash, first_name, last_name, email, activated, lang_key, reset_key, reset_date, " +
+        "created_by, created_date, last_modified_by, last_modified_date) values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_USER_AUTHORITY = "insert into user_authority (user_id, authority_name) values (?, ?)";
+
+    private static final String INSERT_STUDENT = "insert into student (id, phone, student_group_id) values (?, ?, ?)";
+
+    /**
+     * A student to insert, with its user.
+     *
+     * @param id the id of the user and of the student, allocated by {@link #allocateUserIds(int)}.
+     * @param login the login of the user.
+     * @param firstName the first name of the user.
+     * @param lastName the last name of the user.
+     * @param email the email of the user, may be null.
+     * @param langKey the language of the user.
+     * @param resetKey the key with which the user chooses a password.
+     * @param phone the phone of the student, may be null.
+     * @param studentGroupId the id of the group of the student, may be null.
+     */
+    public record NewStudent(
+        long id,
+        String login,
+        String firstName,
+        String lastName,
+        String email,
+        String langKey,
+        String resetKey,
+        String phone,
+        Long studentGroupId
+    ) {}
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final EntityManager entityManager;
+
+    public StudentImportRepository(JdbcTemplate jdbcTemplate, EntityManager entityManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Allocate user ids from the sequence used by Hibernate for the {@link User} entity.
+     * The pooled optimizer hands out the ids from memory, and only reaches the database once per allocation of ids.
+     *
+     * @param count the number of ids to allocate.
+     * @return the allocated ids.
+     */
+    public long[] allocateUserIds(int count) {
+        SharedSessionContractImplementor session = entityManager.unwrap(SharedSessionContractImplementor.class);
+        IdentifierGenerator generator = (IdentifierGenerator) session
+            .getFactory()
+            .getMappingMetamodel()
+            .getEntityDescriptor(User.class)
+            .getGenerator();
+        long[] ids = new long[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = ((Number) generator.generate(session, null)).longValue();
+        }
+        return ids;
+    }
+
+    /**
+     * Insert students, their user and the authority of their user, with one batched statement per table.
+     * The users are activated, with a password they have to replace through their reset key.
+     *
+     * @param students the students to insert.
+     * @param authority the authority given to every user.
+     * @param passwordHash the password hash given to every user.
+     * @param createdBy the login recorded as creator of the users.
+     */
+    public void insertAll(List<NewStudent> students, String authority, String passwordHash, String createdBy) {
+        if (students.isEmpty()) {
+            return;
+        }
+        // Dates are stored as UTC, see hibernate.jdbc.time_zone
+        LocalDateTime now = LocalDateTime.ofInstant(Instant.now(), ZoneOffset.UTC);
+        List<Object[]> users = new ArrayList<>(students.size());
+        List<Object[]> userAuthorities = new ArrayList<>(students.size());
+        List<Object[]> studentRows = new ArrayList<>(students.size());
+        for (NewStudent student : students) {
+            users.add(
+                new Object[] {
+                    student.id(),
+                    student.login(),
+                    passwordHash,
+                    student.firstName(),
+                    student.lastName(),
+                    student.email(),
+                    true,
+                    student.langKey(),
+                    student.resetKey(),
+                    now,
+                    createdBy,
+                    now,
+                    createdBy,
+                    now,
+                }
+            );
+            userAuthorities.add(new Object[] { student.id(), authority });
+            studentRows.add(new Object[] { student.id(), student.phone(), student.studentGroupId() });
+        }
+        jdbcTemplate.batchUpdate(INSERT_USER, users);
+        jdbcTemplate.batchUpdate(INSERT_USER_AUTHORITY, userAuthorities);
+        jdbcTemplate.batchUpdate(INSERT_STUDENT, studentRows);
+    }
+}
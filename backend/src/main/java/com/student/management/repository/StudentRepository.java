@@ -1,6 +1,9 @@
 package com.student.management.repository;
 
 import com.student.management.domain.Student;
+import com.student.management.repository.projection.StudentGroupMembership;
+import com.student.management.repository.projection.StudentGroupStudentCount;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
@@ -27,16 +30,29 @@ public interface StudentRepository extends JpaRepository<Student, Long> {
     }
 
     @Query(
-        value = "select student from Student student left join fetch student.user",
+        value = "select student from Student student left join fetch student.user left join fetch student.studentGroup",
         countQuery = "select count(student) from Student student"
     )
     Page<Student> findAllWithToOneRelationships(Pageable pageable);
 
-    @Query("select student from Student student left join fetch student.user")
+    @Query("select student from Student student left join fetch student.user left join fetch student.studentGroup")
     List<Student> findAllWithToOneRelationships();
 
-    @Query("select student from Student student left join fetch student.user where student.id =:id")
+    @Query("select student from Student student left join fetch student.user left join fetch student.studentGroup where student.id =:id")
     Optional<Student> findOneWithToOneRelationships(@Param("id") Long id);
+
+    /**
+     * Get the students following an id, by increasing id.
+     *
+     * @param id the id after which the students start.
+     * @param pageable the pagination information, used to limit the number of students returned.
+     * @return the students with their user and group.
+     */
+    @Query(
+        "select student from Student student left join fetch student.user left join fetch student.studentGroup " +
+        "where student.id > :id order by student.id"
+    )
+    List<Student> findAllWithToOneRelationshipsByIdGreaterThan(@Param("id") Long id, Pageable pageable);
     
     /**
      * Find all students by student group ID.
@@ -44,7 +60,10 @@ public interface StudentRepository extends JpaRepository<Student, Long> {
      * @param studentGroupId the ID of the student group
      * @return list of students in the group
      */
-    @Query("select student from Student student left join fetch student.user where student.studentGroup.id = :studentGroupId")
+    @Query(
+        "select student from Student student left join fetch student.user left join fetch student.studentGroup " +
+        "where student.studentGroup.id = :studentGroupId"
+    )
     List<Student> findByStudentGroupId(@Param("studentGroupId") Long studentGroupId);
     
     /**
@@ -55,7 +74,8 @@ public interface StudentRepository extends JpaRepository<Student, Long> {
      * @return page of students in the group
      */
     @Query(
-        value = "select student from Student student left join fetch student.user where student.studentGroup.id = :studentGroupId",
+        value = "select student from Student student left join fetch student.user left join fetch student.studentGroup " +
+        "where student.studentGroup.id = :studentGroupId",
         countQuery = "select count(student) from Student student where student.studentGroup.id = :studentGroupId"
     )
     Page<Student> findByStudentGroupId(@Param("studentGroupId") Long studentGroupId, Pageable pageable);
@@ -77,4 +97,41 @@ public interface StudentRepository extends JpaRepository<Student, Long> {
      */
     @Query("select count(student) from Student student where student.studentGroup.id = :studentGroupId")
     long countByStudentGroupId(@Param("studentGroupId") Long studentGroupId);
+
+    /**
+     * Count the students of every student group, including the groups without students.
+     *
+     * @return one row per student group.
+     */
+    @Query(
+        "select new com.student.management.repository.projection.StudentGroupStudentCount(studentGroup.id, studentGroup.name, count(student.id)) " +
+        "from StudentGroup studentGroup left join Student student on student.studentGroup = studentGroup " +
+        "group by studentGroup.id, studentGroup.name"
+    )
+    List<StudentGroupStudentCount> countStudentsPerStudentGroup();
+
+    /**
+     * Count the students of some student groups, including the groups without students.
+     *
+     * @param studentGroupIds the ids of the student groups.
+     * @return one row per existing student group among the given ids.
+     */
+    @Query(
+        "select new com.student.management.repository.projection.StudentGroupStudentCount(studentGroup.id, studentGroup.name, count(student.id)) " +
+        "from StudentGroup studentGroup left join Student student on student.studentGroup = studentGroup " +
+        "where studentGroup.id in :studentGroupIds group by studentGroup.id, studentGroup.name"
+    )
+    List<StudentGroupStudentCount> countStudentsPerStudentGroup(@Param("studentGroupIds") Collection<Long> studentGroupIds);
+
+    /**
+     * Get the group of some students, without loading them.
+     *
+     * @param studentIds the ids of the students.
+     * @return one row per existing student among the given ids.
+     */
+    @Query(
+        "select new com.student.management.repository.projection.StudentGroupMembership(student.id, studentGroup.id) " +
+        "from Student student left join student.studentGroup studentGroup where student.id in :studentIds"
+    )
+    List<StudentGroupMembership> findStudentGroupMemberships(@Param("studentIds") Collection<Long> studentIds);
 }
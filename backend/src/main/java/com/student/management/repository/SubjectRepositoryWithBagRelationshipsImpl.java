@@ -1,57 +1,39 @@
 package com.student.management.repository;
 
 import com.student.management.domain.Subject;
-import jakarta.persistence.EntityManager;
-import jakarta.persistence.PersistenceContext;
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.IntStream;
+import org.hibernate.Hibernate;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 
 /**
- * Utility repository to load bag relationships based on https://vladmihalcea.com/hibernate-multiplebagfetchexception/
+ * Utility repository to load bag relationships.
+ * <p>
+ * The professors are initialized in place, without selecting the subjects again: {@code Subject.professors} is batch
+ * fetched, so initializing the professors of one subject also loads those of the other subjects of the persistence
+ * context, up to the batch size, in the same query.
  */
 public class SubjectRepositoryWithBagRelationshipsImpl implements SubjectRepositoryWithBagRelationships {
 
-    private static final String ID_PARAMETER = "id";
-    private static final String SUBJECTS_PARAMETER = "subjects";
-
-    @PersistenceContext
-    private EntityManager entityManager;
-
     @Override
     public Optional<Subject> fetchBagRelationships(Optional<Subject> subject) {
-        return subject.map(this::fetchProfessors);
+        subject.ifPresent(this::fetchProfessors);
+        return subject;
     }
 
     @Override
     public Page<Subject> fetchBagRelationships(Page<Subject> subjects) {
-        return new PageImpl<>(fetchBagRelationships(subjects.getContent()), subjects.getPageable(), subjects.getTotalElements());
+        fetchBagRelationships(subjects.getContent());
+        return subjects;
     }
 
     @Override
     public List<Subject> fetchBagRelationships(List<Subject> subjects) {
-        return Optional.of(subjects).map(this::fetchProfessors).orElse(Collections.emptyList());
-    }
-
-    Subject fetchProfessors(Subject result) {
-        return entityManager
-            .createQuery("select subject from Subject subject left join fetch subject.professors where subject.id = :id", Subject.class)
-            .setParameter(ID_PARAMETER, result.getId())
-            .getSingleResult();
+        subjects.forEach(this::fetchProfessors);
+        return subjects;
     }
 
-    List<Subject> fetchProfessors(List<Subject> subjects) {
-        HashMap<Object, Integer> order = new HashMap<>();
-        IntStream.range(0, subjects.size()).forEach(index -> order.put(subjects.get(index).getId(), index));
-        List<Subject> result = entityManager
-            .createQuery("select subject from Subject subject left join fetch subject.professors where subject in :subjects", Subject.class)
-            .setParameter(SUBJECTS_PARAMETER, subjects)
-            .getResultList();
-        Collections.sort(result, (o1, o2) -> Integer.compare(order.get(o1.getId()), order.get(o2.getId())));
-        return result;
+    void fetchProfessors(Subject subject) {
+        Hibernate.initialize(subject.getProfessors());
     }
 }
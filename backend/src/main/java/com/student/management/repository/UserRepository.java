@@ -2,9 +2,11 @@ package com.student.management.repository;
 
 import com.student.management.domain.User;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.*;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -17,6 +19,10 @@ import org.springframework.stereotype.Repository;
  */
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
+    String USERS_BY_LOGIN_CACHE = "usersByLogin";
+
+    String USERS_BY_EMAIL_CACHE = "usersByEmail";
+
     Optional<User> findOneByActivationKey(String activationKey);
     List<User> findAllByActivatedIsFalseAndActivationKeyIsNotNullAndCreatedDateBefore(Instant dateTime);
     Optional<User> findOneByResetKey(String resetKey);
@@ -29,8 +35,45 @@ public interface UserRepository extends JpaRepository<User, Long> {
     @EntityGraph(attributePaths = "authorities")
     Optional<User> findOneWithAuthoritiesByEmailIgnoreCase(String email);
 
+    /**
+     * Get a user with its authorities by login, to authenticate it.
+     * <p>
+     * The user is cached: it is shared and detached, so it must only be read. Only
+     * {@link com.student.management.security.DomainUserDetailsService} should use it, other callers use
+     * {@link #findOneWithAuthoritiesByLogin(String)}.
+     *
+     * @param login the login of the user, lower-cased.
+     * @return the user.
+     */
+    @EntityGraph(attributePaths = "authorities")
+    @Cacheable(cacheNames = USERS_BY_LOGIN_CACHE, unless = "#result == null")
+    Optional<User> findOneForAuthenticationByLogin(String login);
+
+    /**
+     * Get a user with its authorities by email, to authenticate it.
+     * <p>
+     * Cached by the email as given, which should be lower-cased, see {@link #findOneForAuthenticationByLogin(String)}.
+     *
+     * @param email the email of the user.
+     * @return the user.
+     */
+    @EntityGraph(attributePaths = "authorities")
+    @Cacheable(cacheNames = USERS_BY_EMAIL_CACHE, unless = "#result == null")
+    Optional<User> findOneForAuthenticationByEmailIgnoreCase(String email);
+
     Page<User> findAllByIdNotNullAndActivatedIsTrue(Pageable pageable);
 
+    /**
+     * Get the ids of the users following an id, by increasing id.
+     * Only ids are paginated, the authorities collection cannot be fetched with a limit.
+     *
+     * @param id the id after which the users start.
+     * @param pageable the pagination information, used to limit the number of ids returned.
+     * @return the ids of the users.
+     */
+    @Query("SELECT u.id FROM User u WHERE u.id > :id ORDER BY u.id")
+    List<Long> findAllIdsByIdGreaterThan(@Param("id") Long id, Pageable pageable);
+
     /**
      * Find all user logins with a specific authority.
      * This query doesn't fetch the authorities collection, making it pagination-friendly.
@@ -62,4 +105,13 @@ public interface UserRepository extends JpaRepository<User, Long> {
      */
     @Query("SELECT COUNT(u) > 0 FROM User u JOIN u.authorities a WHERE u.login = :login AND a.name = :authority")
     boolean hasAuthority(@Param("login") String login, @Param("authority") String authority);
+
+    /**
+     * Get the emails already used among some emails, compared ignoring case by the collation of the column.
+     *
+     * @param emails the emails.
+     * @return the emails of the users using one of them, as stored.
+     */
+    @Query("SELECT u.email FROM User u WHERE u.email IN :emails")
+    List<String> findUsedEmails(@Param("emails") Collection<String> emails);
 }
@@ -0,0 +1,10 @@
+package com.student.management.repository.projection;
+
+/**
+ * Summed payment amount for one calendar month.
+ *
+ * @param year the year of the bucket.
+ * @param month the month of the bucket, from 1 (January) to 12 (December).
+ * @param revenue the summed amount.
+ */
+public record MonthlyRevenue(Integer year, Integer month, Double revenue) {}
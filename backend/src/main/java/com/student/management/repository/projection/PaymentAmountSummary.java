@@ -0,0 +1,9 @@
+package com.student.management.repository.projection;
+
+/**
+ * Number of payments and average amount of the payments having one.
+ *
+ * @param paymentCount the number of payments.
+ * @param averageAmount the average amount, {@code null} if no payment has an amount.
+ */
+public record PaymentAmountSummary(Long paymentCount, Double averageAmount) {}
@@ -0,0 +1,27 @@
+package com.student.management.repository.projection;
+
+import com.student.management.domain.enumeration.Status;
+import java.time.Instant;
+
+/**
+ * A payment as exported, flattened with its student and student group.
+ *
+ * @param id the id of the payment.
+ * @param studentId the id of the paying student, {@code null} if the payment has no student.
+ * @param amount the payment amount.
+ * @param status the payment status.
+ * @param date the payment date.
+ * @param studentName the first and last name of the paying student.
+ * @param studentGroupId the id of the group of the paying student, {@code null} if there is none.
+ * @param studentGroupName the name of the group of the paying student.
+ */
+public record PaymentExportRow(
+    Long id,
+    Long studentId,
+    Double amount,
+    Status status,
+    Instant date,
+    String studentName,
+    Long studentGroupId,
+    String studentGroupName
+) {}
@@ -0,0 +1,14 @@
+package com.student.management.repository.projection;
+
+import com.student.management.domain.enumeration.Status;
+import java.time.Instant;
+
+/**
+ * The fields of a single payment that determine its contribution to the revenue rollup.
+ *
+ * @param date the payment date.
+ * @param status the payment status.
+ * @param studentGroupId the id of the payer's student group, {@code null} if the payer has no group.
+ * @param amount the payment amount.
+ */
+public record PaymentRevenueEntry(Instant date, Status status, Long studentGroupId, Double amount) {}
@@ -0,0 +1,20 @@
+package com.student.management.repository.projection;
+
+/**
+ * A course assignment as listed in the dashboard professor activities.
+ *
+ * @param id the id of the course assignment.
+ * @param professorId the id of the professor.
+ * @param professorName the first and last name of the professor.
+ * @param subjectName the name of the assigned subject.
+ * @param studentGroupId the id of the assigned student group.
+ * @param studentGroupName the name of the assigned student group.
+ */
+public record ProfessorActivity(
+    Long id,
+    Long professorId,
+    String professorName,
+    String subjectName,
+    Long studentGroupId,
+    String studentGroupName
+) {}
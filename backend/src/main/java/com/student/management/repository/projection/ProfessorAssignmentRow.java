@@ -0,0 +1,12 @@
+package com.student.management.repository.projection;
+
+/**
+ * A course assignment of a professor, flattened with the subject and student group it refers to.
+ *
+ * @param id the id of the course assignment.
+ * @param subjectId the id of the subject.
+ * @param subjectName the name of the subject.
+ * @param studentGroupId the id of the student group.
+ * @param studentGroupName the name of the student group.
+ */
+public record ProfessorAssignmentRow(Long id, Long subjectId, String subjectName, Long studentGroupId, String studentGroupName) {}
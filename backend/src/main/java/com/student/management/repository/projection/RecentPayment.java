@@ -0,0 +1,16 @@
+package com.student.management.repository.projection;
+
+import com.student.management.domain.enumeration.Status;
+import java.time.Instant;
+
+/**
+ * A payment as listed on the dashboard, with the full name of the paying student.
+ *
+ * @param id the id of the payment.
+ * @param amount the amount of the payment.
+ * @param status the status of the payment.
+ * @param date the date of the payment.
+ * @param studentId the id of the paying student.
+ * @param studentName the first and last name of the paying student.
+ */
+public record RecentPayment(Long id, Double amount, Status status, Instant date, Long studentId, String studentName) {}
@@ -0,0 +1,12 @@
+package com.student.management.repository.projection;
+
+import com.student.management.domain.enumeration.Status;
+
+/**
+ * Number and summed amount of the payments of a status.
+ *
+ * @param status the payment status.
+ * @param paymentCount the number of payments.
+ * @param amount the summed amount.
+ */
+public record StatusAmount(Status status, Long paymentCount, Double amount) {}
@@ -0,0 +1,9 @@
+package com.student.management.repository.projection;
+
+/**
+ * Summed payment amount of the students of a student group.
+ *
+ * @param studentGroupId the id of the student group.
+ * @param amount the summed amount.
+ */
+public record StudentGroupAmount(Long studentGroupId, Double amount) {}
@@ -0,0 +1,9 @@
+package com.student.management.repository.projection;
+
+/**
+ * The group of a student.
+ *
+ * @param studentId the id of the student.
+ * @param studentGroupId the id of the group of the student, {@code null} if the student has no group.
+ */
+public record StudentGroupMembership(Long studentId, Long studentGroupId) {}
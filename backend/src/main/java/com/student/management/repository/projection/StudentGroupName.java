@@ -0,0 +1,9 @@
+package com.student.management.repository.projection;
+
+/**
+ * The name of a student group.
+ *
+ * @param studentGroupId the id of the student group.
+ * @param name the name of the student group.
+ */
+public record StudentGroupName(Long studentGroupId, String name) {}
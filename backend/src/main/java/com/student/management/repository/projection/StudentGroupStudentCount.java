@@ -0,0 +1,10 @@
+package com.student.management.repository.projection;
+
+/**
+ * Number of students in a student group.
+ *
+ * @param studentGroupId the id of the student group.
+ * @param studentGroupName the name of the student group.
+ * @param studentCount the number of students in the group.
+ */
+public record StudentGroupStudentCount(Long studentGroupId, String studentGroupName, Long studentCount) {}
@@ -0,0 +1,4 @@
+/**
+ * Read-only projections returned by repository aggregate queries.
+ */
+package com.student.management.repository.projection;
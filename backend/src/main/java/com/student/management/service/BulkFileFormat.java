@@ -0,0 +1,15 @@
+package com.student.management.service;
+
+/**
+ * The formats of the files of entities imported and exported in bulk.
+ */
+public enum BulkFileFormat {
+    /**
+     * One JSON object per line.
+     */
+    NDJSON,
+    /**
+     * A header line naming the columns, then one entity per line with values separated by commas.
+     */
+    CSV,
+}
@@ -6,6 +6,7 @@ import com.student.management.repository.CourseAssignmentRepository;
 import com.student.management.security.AuthoritiesConstants;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.annotation.Secured;
@@ -23,14 +24,21 @@ public class CourseAssignmentServiceImpl implements CourseAssignmentService {
 
     private final CourseAssignmentRepository courseAssignmentRepository;
 
-    public CourseAssignmentServiceImpl(CourseAssignmentRepository courseAssignmentRepository) {
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    public CourseAssignmentServiceImpl(
+        CourseAssignmentRepository courseAssignmentRepository,
+        ApplicationEventPublisher applicationEventPublisher
+    ) {
         this.courseAssignmentRepository = courseAssignmentRepository;
+        this.applicationEventPublisher = applicationEventPublisher;
     }
 
     @Override
     @Secured({AuthoritiesConstants.ADMIN})
     public CourseAssignment save(CourseAssignment courseAssignment) {
         log.debug("Request to save CourseAssignment : {}", courseAssignment);
+        applicationEventPublisher.publishEvent(new DashboardDataChangedEvent(CourseAssignment.class));
         return courseAssignmentRepository.save(courseAssignment);
     }
 
@@ -38,6 +46,7 @@ public class CourseAssignmentServiceImpl implements CourseAssignmentService {
     @Secured({AuthoritiesConstants.ADMIN})
     public Optional<CourseAssignment> partialUpdate(CourseAssignment courseAssignment) {
         log.debug("Request to partially update CourseAssignment : {}", courseAssignment);
+        applicationEventPublisher.publishEvent(new DashboardDataChangedEvent(CourseAssignment.class));
 
         return courseAssignmentRepository
             .findById(courseAssignment.getId())
@@ -80,6 +89,7 @@ public class CourseAssignmentServiceImpl implements CourseAssignmentService {
     @Override
     public void delete(Long id) {
         log.debug("Request to delete CourseAssignment : {}", id);
+        applicationEventPublisher.publishEvent(new DashboardDataChangedEvent(CourseAssignment.class));
         courseAssignmentRepository.deleteById(id);
     }
 
@@ -0,0 +1,94 @@
+package com.student.management.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * The columns of an imported CSV file, named by its header line.
+ * Columns can come in any order and are matched ignoring case. Values can be quoted as in RFC 4180, a quoted value
+ * containing commas, doubled quotes or line breaks, as written by {@link PaymentExportService}.
+ */
+final class CsvColumns {
+
+    private final Map<String, Integer> indexes = new HashMap<>();
+
+    /**
+     * Read the columns of a CSV file.
+     *
+     * @param header the header line of the file.
+     */
+    CsvColumns(String header) {
+        String[] names = split(header);
+        for (int i = 0; i < names.length; i++) {
+            indexes.put(names[i].trim().toLowerCase(Locale.ROOT), i);
+        }
+    }
+
+    /**
+     * Check whether a record ends inside a quoted value, and so continues on the next line.
+     *
+     * @param record the lines of the record read so far.
+     * @return {@code true} if a quoted value is not closed.
+     */
+    static boolean isUnterminated(String record) {
+        // An escaped quote is doubled, so only the quotes opening or closing a value make the count odd
+        long quotes = record.chars().filter(c -> c == '"').count();
+        return quotes % 2 != 0;
+    }
+
+    /**
+     * Split a record of the file into its values.
+     *
+     * @param record the record, its lines joined by {@code \n}.
+     * @return the values of the record, unquoted.
+     * @throws IllegalArgumentException if a quoted value is not closed.
+     */
+    static String[] split(String record) {
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < record.length(); i++) {
+            char c = record.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    value.append(c);
+                } else if (i + 1 < record.length() && record.charAt(i + 1) == '"') {
+                    value.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(value.toString());
+                value.setLength(0);
+            } else {
+                value.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted value");
+        }
+        values.add(value.toString());
+        return values.toArray(String[]::new);
+    }
+
+    /**
+     * Get the value of a column.
+     *
+     * @param values the values of a line.
+     * @param column the name of the column, in lower case.
+     * @return the trimmed value, {@code null} if the column is missing or the value blank.
+     */
+    String value(String[] values, String column) {
+        Integer index = indexes.get(column);
+        if (index == null || index >= values.length || values[index].isBlank()) {
+            return null;
+        }
+        return values[index].trim();
+    }
+}
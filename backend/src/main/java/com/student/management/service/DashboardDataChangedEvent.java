@@ -0,0 +1,8 @@
+package com.student.management.service;
+
+/**
+ * Published when a write changes data shown on the dashboard, so that {@link DashboardSnapshotCache} recomputes its snapshot.
+ *
+ * @param entityType the type of the written entity.
+ */
+public record DashboardDataChangedEvent(Class<?> entityType) {}
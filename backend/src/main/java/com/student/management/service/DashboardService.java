@@ -1,22 +1,43 @@
 package com.student.management.service;
 
-import com.student.management.domain.Payment;
-import com.student.management.domain.StudentGroup;
 import com.student.management.domain.enumeration.Status;
 import com.student.management.repository.*;
+import com.student.management.repository.projection.PaymentAmountSummary;
+import com.student.management.repository.projection.ProfessorActivity;
+import com.student.management.repository.projection.ProfessorAssignmentRow;
+import com.student.management.repository.projection.RecentPayment;
+import com.student.management.repository.projection.StatusAmount;
+import com.student.management.repository.projection.StudentGroupAmount;
+import com.student.management.repository.projection.StudentGroupStudentCount;
+import com.student.management.config.ApplicationProperties;
 import com.student.management.service.dto.DashboardDTO;
+import com.student.management.service.dto.RevenueBucketDTO;
+import com.student.management.service.dto.StudentGroupRevenueDTO;
+import com.student.management.service.exception.DashboardUnavailableException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.time.Instant;
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 /**
  * Service Implementation for managing Dashboard data.
@@ -34,6 +55,12 @@ public class DashboardService {
     private final StudentGroupRepository studentGroupRepository;
     private final SubjectRepository subjectRepository;
     private final UserRepository userRepository;
+    private final PaymentRevenueRollupService paymentRevenueRollupService;
+    private final PaymentColumnRepository paymentColumnRepository;
+    private final AsyncTaskExecutor dashboardSectionExecutor;
+    private final TransactionTemplate sectionTransactionTemplate;
+    private final TransactionTemplate primarySectionTransactionTemplate;
+    private final ApplicationProperties applicationProperties;
 
     public DashboardService(StudentRepository studentRepository,
                           ProfessorRepository professorRepository,
@@ -41,7 +68,12 @@ public class DashboardService {
                           CourseAssignmentRepository courseAssignmentRepository,
                           StudentGroupRepository studentGroupRepository,
                           SubjectRepository subjectRepository,
-                          UserRepository userRepository) {
+                          UserRepository userRepository,
+                          PaymentRevenueRollupService paymentRevenueRollupService,
+                          PaymentColumnRepository paymentColumnRepository,
+                          @Qualifier("dashboardSectionExecutor") AsyncTaskExecutor dashboardSectionExecutor,
+                          PlatformTransactionManager transactionManager,
+                          ApplicationProperties applicationProperties) {
         this.studentRepository = studentRepository;
         this.professorRepository = professorRepository;
         this.paymentRepository = paymentRepository;
@@ -49,101 +81,133 @@ public class DashboardService {
         this.studentGroupRepository = studentGroupRepository;
         this.subjectRepository = subjectRepository;
         this.userRepository = userRepository;
+        this.paymentRevenueRollupService = paymentRevenueRollupService;
+        this.paymentColumnRepository = paymentColumnRepository;
+        this.dashboardSectionExecutor = dashboardSectionExecutor;
+        this.applicationProperties = applicationProperties;
+        this.sectionTransactionTemplate = sectionTransactionTemplate(transactionManager, true);
+        this.primarySectionTransactionTemplate = sectionTransactionTemplate(transactionManager, false);
+    }
+
+    private TransactionTemplate sectionTransactionTemplate(PlatformTransactionManager transactionManager, boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        // A read-only transaction is sent to the replica when one is configured, see DatabaseConfiguration
+        transactionTemplate.setReadOnly(readOnly);
+        // The transaction timeout is applied to the queries, so they stop around the time their section is given up
+        transactionTemplate.setTimeout((int) Math.max(1, applicationProperties.getDashboard().getSectionTimeout().toSeconds()));
+        return transactionTemplate;
     }
 
     /**
      * Get dashboard data.
+     * <p>
+     * The independent sections of the dashboard are computed concurrently, each in its own read-only transaction.
+     * A section failing or still running after {@code application.dashboard.section-timeout} is listed in
+     * {@link DashboardDTO#getUnavailableSections()}, unless {@code application.dashboard.partial-results} is disabled.
      *
      * @return the dashboard data.
+     * @throws DashboardUnavailableException if a section is unavailable and partial results are disabled.
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public DashboardDTO getDashboardData() {
-        LOG.debug("Request to get Dashboard data");
-
-        DashboardDTO dashboardDTO = new DashboardDTO();
-
-        // Total Students
-        dashboardDTO.setTotalStudents(studentRepository.count());
-
-        // Total Professors
-        dashboardDTO.setTotalProfessors(professorRepository.count());
-
-        // Total Student Groups
-        dashboardDTO.setTotalStudentGroups(studentGroupRepository.count());
+        return getDashboardData(false);
+    }
 
-        // Total Subjects
-        dashboardDTO.setTotalSubjects(subjectRepository.count());
+    /**
+     * Get dashboard data, as {@link #getDashboardData()}.
+     * <p>
+     * With {@code fromPrimary}, the sections run in read-write transactions, which always go to the primary datasource:
+     * the replica may not have the last writes yet.
+     *
+     * @param fromPrimary whether the data must include the last committed writes.
+     * @return the dashboard data.
+     * @throws DashboardUnavailableException if a section is unavailable and partial results are disabled.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public DashboardDTO getDashboardData(boolean fromPrimary) {
+        LOG.debug("Request to get Dashboard data, from primary: {}", fromPrimary);
+
+        TransactionTemplate transactionTemplate = fromPrimary ? primarySectionTransactionTemplate : sectionTransactionTemplate;
+        Map<String, Future<Consumer<DashboardDTO>>> sections = new LinkedHashMap<>();
+        sections.put("counts", submitSection(transactionTemplate, this::getCountsSection));
+        sections.put("payments", submitSection(transactionTemplate, this::getPaymentsSection));
+        sections.put("lastPayments", submitSection(transactionTemplate, this::getLastPaymentsSection));
+        sections.put("studentsPerGroup", submitSection(transactionTemplate, this::getStudentsPerGroupSection));
+        sections.put("professorActivities", submitSection(transactionTemplate, this::getProfessorActivitiesSection));
 
-        // All payments
-        List<Payment> allPayments = paymentRepository.findAll();
+        DashboardDTO dashboardDTO = new DashboardDTO();
+        List<String> unavailableSections = new ArrayList<>();
+        long deadline = System.nanoTime() + applicationProperties.getDashboard().getSectionTimeout().toNanos();
+        try {
+            for (Map.Entry<String, Future<Consumer<DashboardDTO>>> section : sections.entrySet()) {
+                try {
+                    section.getValue().get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS).accept(dashboardDTO);
+                } catch (ExecutionException | TimeoutException e) {
+                    Throwable cause = e instanceof ExecutionException ? e.getCause() : e;
+                    if (!applicationProperties.getDashboard().isPartialResults()) {
+                        throw new DashboardUnavailableException("Dashboard section " + section.getKey() + " is unavailable", cause);
+                    }
+                    LOG.warn("Dashboard section {} is unavailable: {}", section.getKey(), cause.toString());
+                    unavailableSections.add(section.getKey());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DashboardUnavailableException("Interrupted while computing the dashboard", e);
+        } finally {
+            // Stop the sections given up on, completed sections are not affected
+            sections.values().forEach(section -> section.cancel(true));
+        }
+        dashboardDTO.setUnavailableSections(unavailableSections);
 
-        // Total Payments count
-        dashboardDTO.setTotalPayments((long) allPayments.size());
+        return dashboardDTO;
+    }
 
-        // Pending Payments count
-        long pendingPaymentsCount = allPayments.stream()
-            .filter(payment -> Status.PENDING.equals(payment.getStatus()))
-            .count();
-        dashboardDTO.setPendingPayments(pendingPaymentsCount);
+    private Future<Consumer<DashboardDTO>> submitSection(TransactionTemplate transactionTemplate, Supplier<Consumer<DashboardDTO>> section) {
+        try {
+            return dashboardSectionExecutor.submit(() -> transactionTemplate.execute(status -> section.get()));
+        } catch (TaskRejectedException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
 
-        // Average Payment Amount
-        Double averagePayment = allPayments.stream()
-            .mapToDouble(Payment::getAmount)
-            .average()
-            .orElse(0.0);
-        dashboardDTO.setAveragePaymentAmount(averagePayment);
+    private Consumer<DashboardDTO> getCountsSection() {
+        long totalStudents = studentRepository.count();
+        long totalProfessors = professorRepository.count();
+        long totalStudentGroups = studentGroupRepository.count();
+        long totalSubjects = subjectRepository.count();
+        return dashboardDTO -> {
+            dashboardDTO.setTotalStudents(totalStudents);
+            dashboardDTO.setTotalProfessors(totalProfessors);
+            dashboardDTO.setTotalStudentGroups(totalStudentGroups);
+            dashboardDTO.setTotalSubjects(totalSubjects);
+        };
+    }
 
-        // Total Revenue (from all accepted payments)
-        List<Payment> acceptedPayments = allPayments.stream()
-            .filter(payment -> Status.ACCEPTED.equals(payment.getStatus()))
-            .collect(Collectors.toList());
+    private Consumer<DashboardDTO> getPaymentsSection() {
+        // Payment counts, amounts and revenue, read from the revenue rollup, one row per month, status and group
+        YearMonth currentMonth = YearMonth.now(ZoneOffset.UTC);
+        Map<Status, StatusAmount> amountByStatus = paymentRevenueRollupService.getAmountByStatus();
+        Map<YearMonth, Double> revenueByMonthOfWindow = paymentRevenueRollupService.getAmountByMonth(Status.ACCEPTED, currentMonth.minusMonths(5));
+        // The rollup holds neither the payments without date or status, nor which payments have an amount
+        PaymentAmountSummary paymentAmountSummary = paymentRepository.summarizeAmounts();
 
-        Double totalRevenue = acceptedPayments.stream()
-            .mapToDouble(Payment::getAmount)
-            .sum();
-        dashboardDTO.setTotalRevenue(totalRevenue);
+        Map<String, Long> paymentsPerStatus = new HashMap<>();
+        Arrays.stream(Status.values()).forEach(status ->
+            paymentsPerStatus.put(status.name(), amountByStatus.containsKey(status) ? amountByStatus.get(status).paymentCount() : 0L)
+        );
+        Double totalRevenue = amountByStatus.containsKey(Status.ACCEPTED) ? amountByStatus.get(Status.ACCEPTED).amount() : 0.0;
 
         // Revenue for the last month
-        LocalDate today = LocalDate.now();
-        LocalDate firstDayLastMonth = today.minusMonths(1).withDayOfMonth(1);
-        LocalDate lastDayLastMonth = today.withDayOfMonth(1).minusDays(1);
-
-        Instant startLastMonth = firstDayLastMonth.atStartOfDay(ZoneId.systemDefault()).toInstant();
-        Instant endLastMonth = lastDayLastMonth.plusDays(1).atStartOfDay(ZoneId.systemDefault()).toInstant();
-
-        Double lastMonthRevenue = acceptedPayments.stream()
-            .filter(payment -> !payment.getDate().isBefore(startLastMonth) && payment.getDate().isBefore(endLastMonth))
-            .mapToDouble(Payment::getAmount)
-            .sum();
-        dashboardDTO.setRevenueLastMonth(lastMonthRevenue);
+        Double lastMonthRevenue = revenueByMonthOfWindow.getOrDefault(currentMonth.minusMonths(1), 0.0);
 
         // Revenue by month for the last 4 months
         List<Map<String, Object>> revenueByMonth = new ArrayList<>();
-
         for (int i = 3; i >= 0; i--) {
-            LocalDate firstDayOfMonth = today.minusMonths(i).withDayOfMonth(1);
-            LocalDate lastDayOfMonth = i > 0
-                ? firstDayOfMonth.plusMonths(1).minusDays(1)
-                : today;
-
-            Instant startOfMonth = firstDayOfMonth.atStartOfDay(ZoneId.systemDefault()).toInstant();
-            Instant endOfMonth = lastDayOfMonth.plusDays(1).atStartOfDay(ZoneId.systemDefault()).toInstant();
-
-            Double monthlyRevenue = acceptedPayments.stream()
-                .filter(payment -> !payment.getDate().isBefore(startOfMonth) && payment.getDate().isBefore(endOfMonth))
-                .mapToDouble(Payment::getAmount)
-                .sum();
-
-            Map<String, Object> monthData = new HashMap<>();
-            monthData.put("month", firstDayOfMonth.getMonth().toString());
-            monthData.put("year", firstDayOfMonth.getYear());
-            monthData.put("revenue", monthlyRevenue);
-
-            revenueByMonth.add(monthData);
+            YearMonth month = currentMonth.minusMonths(i);
+            revenueByMonth.add(toMonthData(month, revenueByMonthOfWindow.getOrDefault(month, 0.0)));
         }
 
-        dashboardDTO.setRevenueByMonth(revenueByMonth);
-
         // Generate Revenue Overview
         DashboardDTO.RevenueOverviewDTO revenueOverview = new DashboardDTO.RevenueOverviewDTO();
 
@@ -151,13 +215,7 @@ public class DashboardService {
         revenueOverview.setTotalRevenue(totalRevenue);
 
         // Current month revenue
-        LocalDate firstDayCurrentMonth = today.withDayOfMonth(1);
-        Instant startCurrentMonth = firstDayCurrentMonth.atStartOfDay(ZoneId.systemDefault()).toInstant();
-
-        Double currentMonthRevenue = acceptedPayments.stream()
-            .filter(payment -> !payment.getDate().isBefore(startCurrentMonth))
-            .mapToDouble(Payment::getAmount)
-            .sum();
+        Double currentMonthRevenue = revenueByMonthOfWindow.getOrDefault(currentMonth, 0.0);
         revenueOverview.setCurrentMonthRevenue(currentMonthRevenue);
 
         // Previous month revenue (we already calculated it above)
@@ -171,64 +229,19 @@ public class DashboardService {
         revenueOverview.setMonthOverMonthChange(monthOverMonthChange);
 
         // Average monthly revenue (for the last 6 months)
-        List<Double> lastSixMonthsRevenue = new ArrayList<>();
-
+        double lastSixMonthsRevenue = 0.0;
         for (int i = 0; i < 6; i++) {
-            LocalDate firstDayOfMonth = today.minusMonths(i).withDayOfMonth(1);
-            LocalDate lastDayOfMonth = i > 0
-                ? firstDayOfMonth.plusMonths(1).minusDays(1)
-                : today;
-
-            Instant startOfMonth = firstDayOfMonth.atStartOfDay(ZoneId.systemDefault()).toInstant();
-            Instant endOfMonth = lastDayOfMonth.plusDays(1).atStartOfDay(ZoneId.systemDefault()).toInstant();
-
-            Double monthlyRevenue = acceptedPayments.stream()
-                .filter(payment -> !payment.getDate().isBefore(startOfMonth) && payment.getDate().isBefore(endOfMonth))
-                .mapToDouble(Payment::getAmount)
-                .sum();
-
-            lastSixMonthsRevenue.add(monthlyRevenue);
+            lastSixMonthsRevenue += revenueByMonthOfWindow.getOrDefault(currentMonth.minusMonths(i), 0.0);
+        }
+        revenueOverview.setAverageMonthlyRevenue(lastSixMonthsRevenue / 6);
+
+        // Top 5 revenue by student group, only the names of these 5 groups are loaded
+        Map<String, Double> topRevenueByGroup = new LinkedHashMap<>();
+        for (StudentGroupRevenueDTO studentGroupRevenue : toStudentGroupRevenues(
+            paymentRevenueRollupService.getTopStudentGroups(Status.ACCEPTED, 5)
+        )) {
+            topRevenueByGroup.putIfAbsent(studentGroupRevenue.studentGroupName(), studentGroupRevenue.revenue());
         }
-
-        Double averageMonthlyRevenue = lastSixMonthsRevenue.stream()
-            .mapToDouble(Double::doubleValue)
-            .average()
-            .orElse(0.0);
-        revenueOverview.setAverageMonthlyRevenue(averageMonthlyRevenue);
-
-        // Top revenue by student group
-        Map<String, Double> revenueByStudentGroup = new HashMap<>();
-        Map<Long, String> groupIdToNameMap = new HashMap<>();
-
-        // Create a map of group ID to name for faster lookups
-        studentGroupRepository.findAll().forEach(group ->
-            groupIdToNameMap.put(group.getId(), group.getName())
-        );
-
-        // Group payments by student group and calculate total revenue
-        Map<Long, List<Payment>> paymentsByStudentGroup = acceptedPayments.stream()
-            .filter(payment -> payment.getStudent() != null && payment.getStudent().getStudentGroup() != null)
-            .collect(Collectors.groupingBy(payment -> payment.getStudent().getStudentGroup().getId()));
-
-        paymentsByStudentGroup.forEach((groupId, payments) -> {
-            Double groupRevenue = payments.stream()
-                .mapToDouble(Payment::getAmount)
-                .sum();
-
-            String groupName = groupIdToNameMap.getOrDefault(groupId, "Unknown Group");
-            revenueByStudentGroup.put(groupName, groupRevenue);
-        });
-
-        // Get top 5 groups by revenue
-        Map<String, Double> topRevenueByGroup = revenueByStudentGroup.entrySet().stream()
-            .sorted(Map.Entry.<String, Double>comparingByValue().reversed())
-            .limit(5)
-            .collect(Collectors.toMap(
-                Map.Entry::getKey,
-                Map.Entry::getValue,
-                (e1, e2) -> e1,
-                LinkedHashMap::new
-            ));
 
         revenueOverview.setTopRevenueByStudentGroup(topRevenueByGroup);
 
@@ -241,69 +254,42 @@ public class DashboardService {
 
         revenueOverview.setRevenueByPaymentMethod(revenueByPaymentMethod);
 
-        // Set the revenue overview to dashboard DTO
-        dashboardDTO.setRevenueOverview(revenueOverview);
+        return dashboardDTO -> {
+            dashboardDTO.setTotalPayments(paymentAmountSummary.paymentCount());
+            dashboardDTO.setPendingPayments(paymentsPerStatus.get(Status.PENDING.name()));
+            dashboardDTO.setAveragePaymentAmount(
+                paymentAmountSummary.averageAmount() != null ? paymentAmountSummary.averageAmount() : 0.0
+            );
+            dashboardDTO.setTotalRevenue(totalRevenue);
+            dashboardDTO.setRevenueLastMonth(lastMonthRevenue);
+            dashboardDTO.setRevenueByMonth(revenueByMonth);
+            dashboardDTO.setRevenueOverview(revenueOverview);
+            dashboardDTO.setPaymentsPerStatus(paymentsPerStatus);
+        };
+    }
 
+    private Consumer<DashboardDTO> getLastPaymentsSection() {
         // Last 10 payments
-        List<Payment> lastPayments = paymentRepository.findAll(
-            PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "date"))
-        ).getContent();
-
-        List<Map<String, Object>> lastPaymentsData = lastPayments.stream()
-            .map(payment -> {
-                Map<String, Object> paymentData = new HashMap<>();
-                paymentData.put("id", payment.getId());
-                paymentData.put("amount", payment.getAmount());
-                paymentData.put("status", payment.getStatus().name());
-                paymentData.put("date", payment.getDate());
-                paymentData.put("studentId", payment.getStudent().getId());
-                paymentData.put("studentName", payment.getStudent().getUser().getFirstName() + " " + payment.getStudent().getUser().getLastName());
-                return paymentData;
-            })
-            .collect(Collectors.toList());
-
-        dashboardDTO.setLastPayments(lastPaymentsData);
-
-        // Students per group
-        Map<String, Long> studentsPerGroup = new HashMap<>();
-        List<StudentGroup> allGroups = studentGroupRepository.findAll();
+        List<RecentPayment> lastPayments = paymentRepository.findRecentPayments(PageRequest.of(0, 10));
+
+        return dashboardDTO -> dashboardDTO.setLastPayments(lastPayments);
+    }
 
-        for (StudentGroup group : allGroups) {
-            long studentCount = group.getStudents().size();
-            studentsPerGroup.put(group.getName(), studentCount);
+    private Consumer<DashboardDTO> getStudentsPerGroupSection() {
+        // Students per group, counted by the database in a single statement
+        Map<String, Long> studentsPerGroup = new HashMap<>();
+        for (StudentGroupStudentCount group : studentRepository.countStudentsPerStudentGroup()) {
+            studentsPerGroup.put(group.studentGroupName(), group.studentCount());
         }
-        dashboardDTO.setStudentsPerGroup(studentsPerGroup);
 
-        // Payments per status
-        Map<String, Long> paymentsPerStatus = new HashMap<>();
-        Arrays.stream(Status.values()).forEach(status -> {
-            long count = allPayments.stream()
-                .filter(payment -> status.equals(payment.getStatus()))
-                .count();
-            paymentsPerStatus.put(status.name(), count);
-        });
-        dashboardDTO.setPaymentsPerStatus(paymentsPerStatus);
+        return dashboardDTO -> dashboardDTO.setStudentsPerGroup(studentsPerGroup);
+    }
 
+    private Consumer<DashboardDTO> getProfessorActivitiesSection() {
         // Professor activities (last assignments)
-        List<Map<String, Object>> professorActivities = courseAssignmentRepository.findAll(
-            PageRequest.of(0, 10)
-        ).getContent()
-        .stream()
-        .map(ca -> {
-            Map<String, Object> activity = new HashMap<>();
-            activity.put("id", ca.getId());
-            activity.put("professorId", ca.getProfessor().getId());
-            activity.put("professorName", ca.getProfessor().getUser().getFirstName() + " " + ca.getProfessor().getUser().getLastName());
-            activity.put("subjectName", ca.getSubject().getName());
-            activity.put("studentGroupId", ca.getStudentGroup().getId());
-            activity.put("studentGroupName", ca.getStudentGroup().getName());
-            return activity;
-        })
-        .collect(Collectors.toList());
-
-        dashboardDTO.setProfessorActivities(professorActivities);
+        List<ProfessorActivity> professorActivities = courseAssignmentRepository.findProfessorActivities(PageRequest.of(0, 10));
 
-        return dashboardDTO;
+        return dashboardDTO -> dashboardDTO.setProfessorActivities(professorActivities);
     }
 
     /**
@@ -316,36 +302,90 @@ public class DashboardService {
     public List<Map<String, Object>> getRevenueStatistics(Integer months) {
         LOG.debug("Request to get Revenue statistics for the last {} months", months);
 
-        LocalDate today = LocalDate.now();
+        YearMonth currentMonth = YearMonth.now(ZoneOffset.UTC);
+        YearMonth firstMonth = currentMonth.minusMonths(months - 1L);
+        Map<YearMonth, Double> acceptedRevenueByMonth = paymentRevenueRollupService.getAmountByMonth(Status.ACCEPTED, firstMonth);
+
         List<Map<String, Object>> revenueByMonth = new ArrayList<>();
+        for (YearMonth month = firstMonth; !month.isAfter(currentMonth); month = month.plusMonths(1)) {
+            revenueByMonth.add(toMonthData(month, acceptedRevenueByMonth.getOrDefault(month, 0.0)));
+        }
 
-        List<Payment> acceptedPayments = paymentRepository.findAll().stream()
-            .filter(payment -> Status.ACCEPTED.equals(payment.getStatus()))
-            .collect(Collectors.toList());
+        return revenueByMonth;
+    }
 
-        for (int i = months - 1; i >= 0; i--) {
-            LocalDate firstDayOfMonth = today.minusMonths(i).withDayOfMonth(1);
-            LocalDate lastDayOfMonth = i > 0
-                ? firstDayOfMonth.plusMonths(1).minusDays(1)
-                : today;
+    /**
+     * Get the revenue of each time bucket of a date range.
+     *
+     * @param granularity the size of the buckets.
+     * @param zone the time zone in which days start.
+     * @param from the first day of the range.
+     * @param to the last day of the range, included.
+     * @return the revenue of each bucket, in chronological order.
+     */
+    @Transactional(readOnly = true)
+    public List<RevenueBucketDTO> getRevenueStatistics(RevenueBuckets.Granularity granularity, ZoneId zone, LocalDate from, LocalDate to) {
+        LOG.debug("Request to get Revenue statistics by {} in {} from {} to {}", granularity, zone, from, to);
+
+        RevenueBuckets buckets = new RevenueBuckets(granularity, zone, from, to);
+        double[] revenueByBucket = new double[buckets.size()];
+        byte revenueStatus = (byte) Status.ACCEPTED.ordinal();
+        paymentColumnRepository.scan(buckets.getFrom(), buckets.getTo(), (date, amount, status, studentGroupId) -> {
+            if (status == revenueStatus && !Double.isNaN(amount)) {
+                int bucket = buckets.indexOf(date);
+                if (bucket >= 0) {
+                    revenueByBucket[bucket] += amount;
+                }
+            }
+        });
 
-            Instant startOfMonth = firstDayOfMonth.atStartOfDay(ZoneId.systemDefault()).toInstant();
-            Instant endOfMonth = lastDayOfMonth.plusDays(1).atStartOfDay(ZoneId.systemDefault()).toInstant();
+        List<RevenueBucketDTO> revenue = new ArrayList<>(buckets.size());
+        for (int i = 0; i < buckets.size(); i++) {
+            revenue.add(new RevenueBucketDTO(buckets.getStart(i), buckets.getEnd(i), revenueByBucket[i]));
+        }
+        return revenue;
+    }
 
-            Double monthlyRevenue = acceptedPayments.stream()
-                .filter(payment -> !payment.getDate().isBefore(startOfMonth) && payment.getDate().isBefore(endOfMonth))
-                .mapToDouble(Payment::getAmount)
-                .sum();
+    /**
+     * Get the student groups with the highest revenue, read from the revenue rollup.
+     * A payment is counted in the group its student had when it was written, until the rollup is rebuilt.
+     *
+     * @param limit the maximum number of groups to return.
+     * @return the groups with their revenue, ordered by decreasing revenue.
+     */
+    @Transactional(readOnly = true)
+    public List<StudentGroupRevenueDTO> getTopStudentGroupsByRevenue(int limit) {
+        LOG.debug("Request to get the {} student groups with the highest revenue", limit);
 
-            Map<String, Object> monthData = new HashMap<>();
-            monthData.put("month", firstDayOfMonth.getMonth().toString());
-            monthData.put("year", firstDayOfMonth.getYear());
-            monthData.put("revenue", monthlyRevenue);
+        return toStudentGroupRevenues(paymentRevenueRollupService.getTopStudentGroups(Status.ACCEPTED, limit));
+    }
 
-            revenueByMonth.add(monthData);
+    private List<StudentGroupRevenueDTO> toStudentGroupRevenues(List<StudentGroupAmount> studentGroupAmounts) {
+        // Only the names of the returned groups are loaded
+        Map<Long, String> studentGroupNames = new HashMap<>();
+        studentGroupRepository
+            .findAllById(studentGroupAmounts.stream().map(StudentGroupAmount::studentGroupId).toList())
+            .forEach(group -> studentGroupNames.put(group.getId(), group.getName()));
+
+        List<StudentGroupRevenueDTO> studentGroupRevenues = new ArrayList<>(studentGroupAmounts.size());
+        for (StudentGroupAmount studentGroupAmount : studentGroupAmounts) {
+            studentGroupRevenues.add(
+                new StudentGroupRevenueDTO(
+                    studentGroupAmount.studentGroupId(),
+                    studentGroupNames.get(studentGroupAmount.studentGroupId()),
+                    studentGroupAmount.amount()
+                )
+            );
         }
+        return studentGroupRevenues;
+    }
 
-        return revenueByMonth;
+    private Map<String, Object> toMonthData(YearMonth month, Double revenue) {
+        Map<String, Object> monthData = new HashMap<>();
+        monthData.put("month", month.getMonth().toString());
+        monthData.put("year", month.getYear());
+        monthData.put("revenue", revenue);
+        return monthData;
     }
 
     /**
@@ -355,25 +395,10 @@ public class DashboardService {
      * @return list of recent payments.
      */
     @Transactional(readOnly = true)
-    public List<Map<String, Object>> getRecentPayments(Integer limit) {
+    public List<RecentPayment> getRecentPayments(Integer limit) {
         LOG.debug("Request to get {} recent payments", limit);
 
-        List<Payment> recentPayments = paymentRepository.findAll(
-            PageRequest.of(0, limit, Sort.by(Sort.Direction.DESC, "date"))
-        ).getContent();
-
-        return recentPayments.stream()
-            .map(payment -> {
-                Map<String, Object> paymentData = new HashMap<>();
-                paymentData.put("id", payment.getId());
-                paymentData.put("amount", payment.getAmount());
-                paymentData.put("status", payment.getStatus().name());
-                paymentData.put("date", payment.getDate());
-                paymentData.put("studentId", payment.getStudent().getId());
-                paymentData.put("studentName", payment.getStudent().getUser().getFirstName() + " " + payment.getStudent().getUser().getLastName());
-                return paymentData;
-            })
-            .collect(Collectors.toList());
+        return paymentRepository.findRecentPayments(PageRequest.of(0, limit));
     }
 
     /**
@@ -383,24 +408,10 @@ public class DashboardService {
      * @return list of professor activities.
      */
     @Transactional(readOnly = true)
-    public List<Map<String, Object>> getProfessorActivities(Integer limit) {
+    public List<ProfessorActivity> getProfessorActivities(Integer limit) {
         LOG.debug("Request to get {} professor activities", limit);
 
-        return courseAssignmentRepository.findAll(
-            PageRequest.of(0, limit)
-        ).getContent()
-        .stream()
-        .map(ca -> {
-            Map<String, Object> activity = new HashMap<>();
-            activity.put("id", ca.getId());
-            activity.put("professorId", ca.getProfessor().getId());
-            activity.put("professorName", ca.getProfessor().getUser().getFirstName() + " " + ca.getProfessor().getUser().getLastName());
-            activity.put("subjectName", ca.getSubject().getName());
-            activity.put("studentGroupId", ca.getStudentGroup().getId());
-            activity.put("studentGroupName", ca.getStudentGroup().getName());
-            return activity;
-        })
-        .collect(Collectors.toList());
+        return courseAssignmentRepository.findProfessorActivities(PageRequest.of(0, limit));
     }
 
     /**
@@ -415,60 +426,48 @@ public class DashboardService {
 
         Map<String, Object> statistics = new HashMap<>();
 
-        // Get professor's course assignments
-        List<Map<String, Object>> assignments = courseAssignmentRepository.findByProfessorId(professorId)
-            .stream()
-            .map(ca -> {
-                Map<String, Object> assignment = new HashMap<>();
-                assignment.put("id", ca.getId());
-                assignment.put("subjectId", ca.getSubject().getId());
-                assignment.put("subjectName", ca.getSubject().getName());
-                assignment.put("studentGroupId", ca.getStudentGroup().getId());
-                assignment.put("studentGroupName", ca.getStudentGroup().getName());
-                assignment.put("studentCount", ca.getStudentGroup().getStudents().size());
-                return assignment;
-            })
-            .collect(Collectors.toList());
-
-        // Count distinct student groups the professor is teaching
-        long distinctGroups = assignments.stream()
-            .map(a -> a.get("studentGroupId"))
-            .distinct()
-            .count();
-
-        // Count distinct subjects the professor is teaching
-        long distinctSubjects = assignments.stream()
-            .map(a -> a.get("subjectId"))
-            .distinct()
-            .count();
-
-        // Total number of students the professor is teaching
-        long totalStudents = assignments.stream()
-            .mapToLong(a -> {
-                // Safely handle conversion between Integer and Long
-                Object countObj = a.get("studentCount");
-                if (countObj instanceof Integer) {
-                    return ((Integer) countObj).longValue();
-                } else if (countObj instanceof Long) {
-                    return (Long) countObj;
-                }
-                return 0L; // Default if for some reason the count is missing or has an unexpected type
-            })
-            .sum();
+        // Get professor's course assignments as flat rows
+        List<ProfessorAssignmentRow> rows = courseAssignmentRepository.findAssignmentRowsByProfessorId(professorId);
+
+        // Count the students of all the assigned groups in a single statement
+        Set<Long> studentGroupIds = new HashSet<>();
+        rows.forEach(row -> studentGroupIds.add(row.studentGroupId()));
+        Map<Long, Long> studentCountByGroupId = new HashMap<>();
+        if (!studentGroupIds.isEmpty()) {
+            studentRepository
+                .countStudentsPerStudentGroup(studentGroupIds)
+                .forEach(group -> studentCountByGroupId.put(group.studentGroupId(), group.studentCount()));
+        }
+
+        // Build the assignments and every total in a single pass over the rows
+        List<Map<String, Object>> assignments = new ArrayList<>(rows.size());
+        Set<Long> subjectIds = new HashSet<>();
+        Map<String, Long> subjectDistribution = new HashMap<>();
+        long totalStudents = 0;
+        for (ProfessorAssignmentRow row : rows) {
+            long studentCount = studentCountByGroupId.getOrDefault(row.studentGroupId(), 0L);
+            totalStudents += studentCount;
+            subjectIds.add(row.subjectId());
+            subjectDistribution.merge(row.subjectName(), 1L, Long::sum);
+
+            Map<String, Object> assignment = new HashMap<>();
+            assignment.put("id", row.id());
+            assignment.put("subjectId", row.subjectId());
+            assignment.put("subjectName", row.subjectName());
+            assignment.put("studentGroupId", row.studentGroupId());
+            assignment.put("studentGroupName", row.studentGroupName());
+            assignment.put("studentCount", studentCount);
+            assignments.add(assignment);
+        }
 
         // Summary statistics
         statistics.put("totalAssignments", assignments.size());
-        statistics.put("totalStudentGroups", distinctGroups);
-        statistics.put("totalSubjects", distinctSubjects);
+        statistics.put("totalStudentGroups", (long) studentGroupIds.size());
+        statistics.put("totalSubjects", (long) subjectIds.size());
         statistics.put("totalStudents", totalStudents);
         statistics.put("assignments", assignments);
 
         // Group assignments by subject
-        Map<String, Long> subjectDistribution = assignments.stream()
-            .collect(Collectors.groupingBy(
-                a -> (String) a.get("subjectName"),
-                Collectors.counting()
-            ));
         statistics.put("subjectDistribution", subjectDistribution);
 
         return statistics;
@@ -0,0 +1,162 @@
+package com.student.management.service;
+
+import com.student.management.service.dto.DashboardDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.time.Clock;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Serves the last computed {@link DashboardDTO}, recomputing it in the background when the underlying data changes.
+ * <p>
+ * Every {@link DashboardDataChangedEvent} bumps a version and asks the single recompute thread for a new snapshot.
+ * Callers get the current snapshot immediately, even when it is older than the last change (stale-while-revalidate);
+ * only the calls made before the first snapshot exists wait for it. The figures of the dashboard are relative to the
+ * current month, so a snapshot computed in an earlier month (UTC) is stale as well. Requests arriving while a recompute is queued or
+ * running share it, so the dashboard is never computed twice concurrently.
+ * <p>
+ * The snapshot recomputed for a change is computed from the primary datasource: computed from a replica lagging
+ * behind, it could miss the change and still be recorded as up to date. The other recomputes read the replica.
+ */
+@Service
+public class DashboardSnapshotCache {
+
+    public static final String REQUESTS_METER_NAME = "dashboard.snapshot.requests";
+    public static final String REQUESTS_METER_RESULT_DIMENSION = "result";
+    public static final String RECOMPUTE_METER_NAME = "dashboard.snapshot.recompute";
+
+    private static final Logger LOG = LoggerFactory.getLogger(DashboardSnapshotCache.class);
+
+    private final DashboardService dashboardService;
+
+    private final ExecutorService recomputeExecutor;
+
+    private final Clock clock;
+
+    private final AtomicLong version = new AtomicLong();
+
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Timer recomputeTimer;
+
+    // Guarded by this
+    private CompletableFuture<DashboardDTO> recomputation;
+
+    public DashboardSnapshotCache(DashboardService dashboardService, MeterRegistry registry) {
+        this(dashboardService, registry, Executors.newSingleThreadExecutor(recomputeThreadFactory()), Clock.systemUTC());
+    }
+
+    DashboardSnapshotCache(DashboardService dashboardService, MeterRegistry registry, ExecutorService recomputeExecutor, Clock clock) {
+        this.dashboardService = dashboardService;
+        this.recomputeExecutor = recomputeExecutor;
+        this.clock = clock;
+        this.hitCounter = requestsCounterForResult("hit").register(registry);
+        this.missCounter = requestsCounterForResult("miss").register(registry);
+        this.recomputeTimer = Timer.builder(RECOMPUTE_METER_NAME)
+            .description("Time spent computing the dashboard snapshot.")
+            .register(registry);
+    }
+
+    /**
+     * Get the dashboard data.
+     *
+     * @return the last computed dashboard data.
+     */
+    public DashboardDTO get() {
+        Snapshot current = snapshot.get();
+        if (current == null) {
+            missCounter.increment();
+            try {
+                return requestRecompute().join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+        hitCounter.increment();
+        if (current.version() != version.get() || !current.month().equals(currentMonth())) {
+            requestRecompute();
+        }
+        return current.data();
+    }
+
+    /**
+     * Mark the snapshot as stale and recompute it in the background.
+     * Runs after the commit of the write, so that the recompute sees the written data.
+     *
+     * @param event the change.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDashboardDataChanged(DashboardDataChangedEvent event) {
+        LOG.debug("Dashboard data changed by a write on {}", event.entityType().getSimpleName());
+        version.incrementAndGet();
+        requestRecompute();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        recomputeExecutor.shutdownNow();
+    }
+
+    private synchronized CompletableFuture<DashboardDTO> requestRecompute() {
+        if (recomputation == null || recomputation.isDone()) {
+            recomputation = CompletableFuture.supplyAsync(this::recompute, recomputeExecutor);
+        }
+        return recomputation;
+    }
+
+    private DashboardDTO recompute() {
+        // Read the version first: a change committed during the computation leaves the snapshot stale
+        long computedVersion = version.get();
+        YearMonth computedMonth = currentMonth();
+        // Only a change missing from the current snapshot may not be replicated yet, otherwise the replica is up to date
+        Snapshot current = snapshot.get();
+        boolean fromPrimary = current != null && computedVersion > current.version();
+        try {
+            DashboardDTO data = recomputeTimer.record(() -> dashboardService.getDashboardData(fromPrimary));
+            boolean complete = data.getUnavailableSections() == null || data.getUnavailableSections().isEmpty();
+            // A partial snapshot is served but recorded as stale, so the next call retries the missing sections
+            snapshot.set(new Snapshot(data, complete ? computedVersion : computedVersion - 1, computedMonth));
+            return data;
+        } catch (RuntimeException e) {
+            LOG.error("Cannot compute the dashboard snapshot", e);
+            throw e;
+        }
+    }
+
+    private YearMonth currentMonth() {
+        return YearMonth.from(clock.instant().atZone(ZoneOffset.UTC));
+    }
+
+    private Counter.Builder requestsCounterForResult(String result) {
+        return Counter.builder(REQUESTS_METER_NAME)
+            .description("Dashboard requests served from the snapshot (hit) or waiting for its first computation (miss).")
+            .tag(REQUESTS_METER_RESULT_DIMENSION, result);
+    }
+
+    private static CustomizableThreadFactory recomputeThreadFactory() {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("dashboard-snapshot-");
+        threadFactory.setDaemon(true);
+        return threadFactory;
+    }
+
+    private record Snapshot(DashboardDTO data, long version, YearMonth month) {}
+}
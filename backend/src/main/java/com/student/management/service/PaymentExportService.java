@@ -0,0 +1,97 @@
+package com.student.management.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.student.management.repository.PaymentRepository;
+import com.student.management.repository.projection.PaymentExportRow;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service exporting every payment, to NDJSON or CSV.
+ * <p>
+ * Payments are streamed from the database as flat rows and written as they are read,
+ * so the memory used does not depend on the number of payments.
+ * An exported CSV file can be imported back by {@link PaymentImportService}.
+ */
+@Service
+public class PaymentExportService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PaymentExportService.class);
+
+    static final String CSV_HEADER = "id,studentId,amount,status,date,studentGroupId,studentName,studentGroupName";
+
+    private final PaymentRepository paymentRepository;
+
+    private final ObjectMapper objectMapper;
+
+    public PaymentExportService(PaymentRepository paymentRepository, ObjectMapper objectMapper) {
+        this.paymentRepository = paymentRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Export every payment, by id.
+     *
+     * @param output the writer receiving the payments, flushed but not closed.
+     * @param format the format of the export.
+     * @return the number of payments exported.
+     * @throws IOException if the payments cannot be written.
+     */
+    @Transactional(readOnly = true)
+    public long exportPayments(Writer output, BulkFileFormat format) throws IOException {
+        LOG.debug("Request to export Payments to {}", format);
+        if (format == BulkFileFormat.CSV) {
+            output.write(CSV_HEADER);
+            output.write('\n');
+        }
+        long count = 0;
+        try (Stream<PaymentExportRow> rows = paymentRepository.streamAllForExport()) {
+            for (PaymentExportRow row : (Iterable<PaymentExportRow>) rows::iterator) {
+                if (format == BulkFileFormat.CSV) {
+                    writeCsv(output, row);
+                } else {
+                    output.write(objectMapper.writeValueAsString(row));
+                }
+                output.write('\n');
+                count++;
+            }
+        }
+        output.flush();
+        LOG.debug("Exported {} payments", count);
+        return count;
+    }
+
+    private static void writeCsv(Writer output, PaymentExportRow row) throws IOException {
+        output.write(csvValue(row.id()));
+        output.write(',');
+        output.write(csvValue(row.studentId()));
+        output.write(',');
+        output.write(csvValue(row.amount()));
+        output.write(',');
+        output.write(csvValue(row.status()));
+        output.write(',');
+        output.write(csvValue(row.date()));
+        output.write(',');
+        output.write(csvValue(row.studentGroupId()));
+        output.write(',');
+        output.write(csvValue(row.studentName()));
+        output.write(',');
+        output.write(csvValue(row.studentGroupName()));
+    }
+
+    private static String csvValue(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
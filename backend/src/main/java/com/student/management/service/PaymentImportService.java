@@ -0,0 +1,222 @@
+package com.student.management.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.student.management.config.ApplicationProperties;
+import com.student.management.domain.Payment;
+import com.student.management.domain.enumeration.Status;
+import com.student.management.repository.PaymentRepository;
+import com.student.management.repository.StudentRepository;
+import com.student.management.repository.projection.PaymentRevenueEntry;
+import com.student.management.service.dto.PaymentImportResultDTO;
+import com.student.management.service.dto.PaymentImportRowResultDTO;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Service importing payments in bulk, from NDJSON or CSV.
+ * <p>
+ * Both formats give the fields {@code studentId}, {@code amount}, {@code status} and {@code date} of each payment,
+ * CSV columns can come in any order and values can be quoted, see {@link CsvColumns}.
+ * <p>
+ * The input is read one line at a time and written in chunks of {@code application.payment-import.chunk-size} payments,
+ * each in its own transaction: the students of a chunk are resolved with a single query, and its payments are inserted
+ * in JDBC batches. A chunk that fails is rejected as a whole, the previous chunks stay imported.
+ */
+@Service
+public class PaymentImportService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PaymentImportService.class);
+
+    /**
+     * The fields of an imported payment.
+     */
+    record ImportedPayment(Long studentId, Double amount, Status status, Instant date) {}
+
+    private record Row(long line, ImportedPayment payment) {}
+
+    private final PaymentRepository paymentRepository;
+
+    private final StudentRepository studentRepository;
+
+    private final PaymentRevenueRollupService paymentRevenueRollupService;
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    private final ObjectMapper objectMapper;
+
+    private final TransactionTemplate chunkTransactionTemplate;
+
+    private final int chunkSize;
+
+    public PaymentImportService(
+        PaymentRepository paymentRepository,
+        StudentRepository studentRepository,
+        PaymentRevenueRollupService paymentRevenueRollupService,
+        ApplicationEventPublisher applicationEventPublisher,
+        ObjectMapper objectMapper,
+        PlatformTransactionManager transactionManager,
+        ApplicationProperties applicationProperties
+    ) {
+        this.paymentRepository = paymentRepository;
+        this.studentRepository = studentRepository;
+        this.paymentRevenueRollupService = paymentRevenueRollupService;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.objectMapper = objectMapper;
+        this.chunkTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = Math.max(1, applicationProperties.getPaymentImport().getChunkSize());
+    }
+
+    /**
+     * Import payments.
+     *
+     * @param input the imported file, read up to its end but not closed.
+     * @param format the format of the file.
+     * @return the outcome of each row.
+     * @throws IOException if the input cannot be read.
+     */
+    public PaymentImportResultDTO importPayments(Reader input, BulkFileFormat format) throws IOException {
+        LOG.debug("Request to import Payments from {}", format);
+        BufferedReader reader = new BufferedReader(input);
+        List<PaymentImportRowResultDTO> results = new ArrayList<>();
+        List<Row> chunk = new ArrayList<>(chunkSize);
+        long line = 0;
+        CsvColumns csvColumns = null;
+        if (format == BulkFileFormat.CSV) {
+            String header = reader.readLine();
+            line++;
+            if (header == null) {
+                return new PaymentImportResultDTO(0, 0, List.of());
+            }
+            csvColumns = new CsvColumns(header);
+        }
+
+        String text;
+        while ((text = reader.readLine()) != null) {
+            line++;
+            if (text.isBlank()) {
+                continue;
+            }
+            // A quoted value may span several lines, the record is reported under its first line
+            long recordLine = line;
+            String next;
+            while (csvColumns != null && CsvColumns.isUnterminated(text) && (next = reader.readLine()) != null) {
+                line++;
+                text = text + '\n' + next;
+            }
+            try {
+                ImportedPayment payment = format == BulkFileFormat.CSV ? parseCsv(csvColumns, text) : parseJson(text);
+                chunk.add(new Row(recordLine, validate(payment)));
+            } catch (IllegalArgumentException | DateTimeParseException | JsonProcessingException e) {
+                results.add(new PaymentImportRowResultDTO(recordLine, null, e.getMessage()));
+            }
+            if (chunk.size() == chunkSize) {
+                results.addAll(writeChunk(chunk));
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            results.addAll(writeChunk(chunk));
+        }
+
+        results.sort(Comparator.comparingLong(PaymentImportRowResultDTO::line));
+        int imported = (int) results.stream().filter(result -> result.paymentId() != null).count();
+        LOG.info("Imported {} payments, rejected {} rows", imported, results.size() - imported);
+        return new PaymentImportResultDTO(imported, results.size() - imported, results);
+    }
+
+    private List<PaymentImportRowResultDTO> writeChunk(List<Row> chunk) {
+        try {
+            return chunkTransactionTemplate.execute(status -> {
+                Set<Long> studentIds = new HashSet<>();
+                chunk.stream().map(row -> row.payment().studentId()).filter(id -> id != null).forEach(studentIds::add);
+                // Student id to student group id, which is null for students without group
+                Map<Long, Long> studentGroupIds = new HashMap<>();
+                if (!studentIds.isEmpty()) {
+                    studentRepository
+                        .findStudentGroupMemberships(studentIds)
+                        .forEach(membership -> studentGroupIds.put(membership.studentId(), membership.studentGroupId()));
+                }
+
+                List<PaymentImportRowResultDTO> results = new ArrayList<>(chunk.size());
+                List<PaymentRevenueEntry> created = new ArrayList<>(chunk.size());
+                for (Row row : chunk) {
+                    ImportedPayment imported = row.payment();
+                    if (imported.studentId() != null && !studentGroupIds.containsKey(imported.studentId())) {
+                        results.add(new PaymentImportRowResultDTO(row.line(), null, "Unknown student " + imported.studentId()));
+                        continue;
+                    }
+                    Payment payment = new Payment().amount(imported.amount()).status(imported.status()).date(imported.date());
+                    if (imported.studentId() != null) {
+                        payment.setStudent(studentRepository.getReferenceById(imported.studentId()));
+                    }
+                    // The id comes from the pooled sequence, the insert itself is batched at flush
+                    paymentRepository.save(payment);
+                    results.add(new PaymentImportRowResultDTO(row.line(), payment.getId(), null));
+                    created.add(
+                        new PaymentRevenueEntry(payment.getDate(), payment.getStatus(), studentGroupIds.get(imported.studentId()), payment.getAmount())
+                    );
+                }
+                paymentRevenueRollupService.addAll(created);
+                if (!created.isEmpty()) {
+                    applicationEventPublisher.publishEvent(new DashboardDataChangedEvent(Payment.class));
+                }
+                return results;
+            });
+        } catch (RuntimeException e) {
+            LOG.warn("Could not import the payments of lines {} to {}", chunk.get(0).line(), chunk.get(chunk.size() - 1).line(), e);
+            return chunk.stream().map(row -> new PaymentImportRowResultDTO(row.line(), null, "Chunk not imported: " + e.getMessage())).toList();
+        }
+    }
+
+    private ImportedPayment parseJson(String text) throws JsonProcessingException {
+        return objectMapper.readValue(text, ImportedPayment.class);
+    }
+
+    private static ImportedPayment parseCsv(CsvColumns columns, String text) {
+        String[] values = CsvColumns.split(text);
+        String studentId = columns.value(values, "studentid");
+        String amount = columns.value(values, "amount");
+        String status = columns.value(values, "status");
+        String date = columns.value(values, "date");
+        return new ImportedPayment(
+            studentId != null ? Long.valueOf(studentId) : null,
+            amount != null ? Double.valueOf(amount) : null,
+            status != null ? Status.valueOf(status.toUpperCase(Locale.ROOT)) : null,
+            date != null ? Instant.parse(date) : null
+        );
+    }
+
+    private static ImportedPayment validate(ImportedPayment payment) {
+        if (payment == null) {
+            throw new IllegalArgumentException("Empty payment");
+        }
+        if (payment.amount() == null) {
+            throw new IllegalArgumentException("Missing amount");
+        }
+        if (payment.status() == null) {
+            throw new IllegalArgumentException("Missing status");
+        }
+        if (payment.date() == null) {
+            throw new IllegalArgumentException("Missing date");
+        }
+        return payment;
+    }
+}
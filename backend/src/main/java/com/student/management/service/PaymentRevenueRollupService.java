@@ -0,0 +1,168 @@
+package com.student.management.service;
+
+import com.student.management.domain.PaymentRevenueRollup;
+import com.student.management.domain.enumeration.Status;
+import com.student.management.repository.PaymentRevenueRollupRepository;
+import com.student.management.repository.projection.PaymentRevenueEntry;
+import com.student.management.repository.projection.StatusAmount;
+import com.student.management.repository.projection.StudentGroupAmount;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service Implementation for maintaining {@link com.student.management.domain.PaymentRevenueRollup}.
+ * <p>
+ * Rollup buckets are updated in the transaction of the payment write that changes them,
+ * so they always match the committed payments. A student moving to another group keeps
+ * their past payments in the buckets of their former group until the next {@link #rebuild()}.
+ */
+@Service
+@Transactional
+public class PaymentRevenueRollupService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PaymentRevenueRollupService.class);
+
+    private final PaymentRevenueRollupRepository paymentRevenueRollupRepository;
+
+    public PaymentRevenueRollupService(PaymentRevenueRollupRepository paymentRevenueRollupRepository) {
+        this.paymentRevenueRollupRepository = paymentRevenueRollupRepository;
+    }
+
+    /**
+     * Move a payment from the bucket of its previous state to the bucket of its current state.
+     *
+     * @param previous the payment state before the write, empty for a created payment.
+     * @param current the payment state after the write, empty for a deleted payment.
+     */
+    public void replace(Optional<PaymentRevenueEntry> previous, Optional<PaymentRevenueEntry> current) {
+        if (previous.equals(current)) {
+            return;
+        }
+        previous.ifPresent(entry -> increment(entry, -1));
+        current.ifPresent(entry -> increment(entry, 1));
+    }
+
+    /**
+     * Add created payments to their buckets, with a single write per bucket.
+     *
+     * @param created the state of the created payments.
+     */
+    public void addAll(Collection<PaymentRevenueEntry> created) {
+        // A bucket is keyed by an entry at the start of its month without amount, and holds its payment count and amount
+        Map<PaymentRevenueEntry, double[]> deltaByBucket = new HashMap<>();
+        for (PaymentRevenueEntry entry : created) {
+            if (entry.date() == null || entry.status() == null) {
+                continue;
+            }
+            PaymentRevenueEntry bucket = new PaymentRevenueEntry(
+                entry.date().atZone(ZoneOffset.UTC).withDayOfMonth(1).truncatedTo(ChronoUnit.DAYS).toInstant(),
+                entry.status(),
+                entry.studentGroupId(),
+                null
+            );
+            double[] delta = deltaByBucket.computeIfAbsent(bucket, key -> new double[2]);
+            delta[0]++;
+            delta[1] += entry.amount() != null ? entry.amount() : 0.0;
+        }
+        deltaByBucket.forEach((bucket, delta) -> {
+            ZonedDateTime date = bucket.date().atZone(ZoneOffset.UTC);
+            paymentRevenueRollupRepository.increment(
+                date.getYear(),
+                date.getMonthValue(),
+                bucket.status().name(),
+                bucket.studentGroupId() != null ? bucket.studentGroupId() : PaymentRevenueRollup.NO_STUDENT_GROUP,
+                (long) delta[0],
+                delta[1]
+            );
+        });
+    }
+
+    /**
+     * Recompute every bucket from the payment table.
+     * Concurrent payment writes may be lost from the rollup, so this should run while payments are not being written.
+     *
+     * @return the number of buckets after the rebuild.
+     */
+    public int rebuild() {
+        LOG.info("Rebuilding the payment revenue rollup");
+        paymentRevenueRollupRepository.deleteAllBuckets();
+        int buckets = paymentRevenueRollupRepository.insertAllBucketsFromPayments();
+        LOG.info("Payment revenue rollup rebuilt with {} buckets", buckets);
+        return buckets;
+    }
+
+    /**
+     * Get the summed amount of a status per month, starting at a given month.
+     *
+     * @param status the payment status.
+     * @param firstMonth the first month to include.
+     * @return the amount of each month having at least one payment, months are computed in UTC.
+     */
+    @Transactional(readOnly = true)
+    public Map<YearMonth, Double> getAmountByMonth(Status status, YearMonth firstMonth) {
+        Map<YearMonth, Double> amountByMonth = new HashMap<>();
+        paymentRevenueRollupRepository
+            .sumAmountByMonth(status, firstMonth.getYear(), firstMonth.getMonthValue())
+            .forEach(monthlyRevenue ->
+                amountByMonth.put(
+                    YearMonth.of(monthlyRevenue.year(), monthlyRevenue.month()),
+                    monthlyRevenue.revenue() != null ? monthlyRevenue.revenue() : 0.0
+                )
+            );
+        return amountByMonth;
+    }
+
+    /**
+     * Get the number and summed amount of the payments of each status, over every month.
+     *
+     * @return the number and amount of each status having at least one payment.
+     */
+    @Transactional(readOnly = true)
+    public Map<Status, StatusAmount> getAmountByStatus() {
+        Map<Status, StatusAmount> amountByStatus = new EnumMap<>(Status.class);
+        paymentRevenueRollupRepository.sumByStatus().forEach(statusAmount -> amountByStatus.put(statusAmount.status(), statusAmount));
+        return amountByStatus;
+    }
+
+    /**
+     * Get the student groups with the highest summed amount of a status, over every month.
+     * Payments of students without group are not counted.
+     *
+     * @param status the payment status.
+     * @param limit the maximum number of groups to return.
+     * @return the groups with their amount, ordered by decreasing amount.
+     */
+    @Transactional(readOnly = true)
+    public List<StudentGroupAmount> getTopStudentGroups(Status status, int limit) {
+        return paymentRevenueRollupRepository.sumAmountByStudentGroup(status, PaymentRevenueRollup.NO_STUDENT_GROUP, PageRequest.of(0, limit));
+    }
+
+    private void increment(PaymentRevenueEntry entry, int sign) {
+        if (entry.date() == null || entry.status() == null) {
+            // Payments without date or status do not belong to any bucket
+            return;
+        }
+        ZonedDateTime date = entry.date().atZone(ZoneOffset.UTC);
+        paymentRevenueRollupRepository.increment(
+            date.getYear(),
+            date.getMonthValue(),
+            entry.status().name(),
+            entry.studentGroupId() != null ? entry.studentGroupId() : PaymentRevenueRollup.NO_STUDENT_GROUP,
+            sign,
+            entry.amount() != null ? sign * entry.amount() : 0.0
+        );
+    }
+}
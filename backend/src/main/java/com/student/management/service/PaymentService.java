@@ -2,11 +2,18 @@ package com.student.management.service;
 
 import com.student.management.domain.Payment;
 import com.student.management.repository.PaymentRepository;
+import com.student.management.repository.projection.PaymentRevenueEntry;
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,8 +28,18 @@ public class PaymentService {
 
     private final PaymentRepository paymentRepository;
 
-    public PaymentService(PaymentRepository paymentRepository) {
+    private final PaymentRevenueRollupService paymentRevenueRollupService;
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    public PaymentService(
+        PaymentRepository paymentRepository,
+        PaymentRevenueRollupService paymentRevenueRollupService,
+        ApplicationEventPublisher applicationEventPublisher
+    ) {
         this.paymentRepository = paymentRepository;
+        this.paymentRevenueRollupService = paymentRevenueRollupService;
+        this.applicationEventPublisher = applicationEventPublisher;
     }
 
     /**
@@ -33,18 +50,23 @@ public class PaymentService {
      */
     public Payment save(Payment payment) {
         LOG.debug("Request to save Payment : {}", payment);
-        return paymentRepository.save(payment);
+        applicationEventPublisher.publishEvent(new DashboardDataChangedEvent(Payment.class));
+        return saveAndRollUp(payment, Optional.empty());
     }
 
     /**
      * Update a payment.
      *
      * @param payment the entity to save.
-     * @return the persisted entity.
+     * @return the persisted entity, with its student and their user.
      */
     public Payment update(Payment payment) {
         LOG.debug("Request to update Payment : {}", payment);
-        return paymentRepository.save(payment);
+        applicationEventPublisher.publishEvent(new DashboardDataChangedEvent(Payment.class));
+        Optional<PaymentRevenueEntry> previous = paymentRepository.findRevenueEntryById(payment.getId());
+        // Merging leaves the student as an uninitialized proxy, serialized as its id only
+        Payment result = saveAndRollUp(payment, previous);
+        return paymentRepository.findOneWithToOneRelationships(result.getId()).orElse(result);
     }
 
     /**
@@ -55,9 +77,11 @@ public class PaymentService {
      */
     public Optional<Payment> partialUpdate(Payment payment) {
         LOG.debug("Request to partially update Payment : {}", payment);
+        applicationEventPublisher.publishEvent(new DashboardDataChangedEvent(Payment.class));
 
+        Optional<PaymentRevenueEntry> previous = paymentRepository.findRevenueEntryById(payment.getId());
         return paymentRepository
-            .findById(payment.getId())
+            .findOneWithToOneRelationships(payment.getId())
             .map(existingPayment -> {
                 if (payment.getAmount() != null) {
                     existingPayment.setAmount(payment.getAmount());
@@ -71,7 +95,7 @@ public class PaymentService {
 
                 return existingPayment;
             })
-            .map(paymentRepository::save);
+            .map(existingPayment -> saveAndRollUp(existingPayment, previous));
     }
 
     /**
@@ -86,6 +110,32 @@ public class PaymentService {
         return paymentRepository.findAll(pageable);
     }
 
+    /**
+     * Get a slice of the payments, latest first, starting after a payment.
+     * The payments without date come last, by decreasing id.
+     *
+     * @param date the date of the payment after which the slice starts.
+     * @param id the id of the payment after which the slice starts, or {@code null} for the first slice.
+     * @param size the maximum number of payments of the slice.
+     * @return the slice of entities.
+     */
+    @Transactional(readOnly = true)
+    public Slice<Payment> findAllAfter(Instant date, Long id, int size) {
+        LOG.debug("Request to get {} Payments after : {}, {}", size, date, id);
+        // One more payment tells whether there is a next slice, without counting
+        PageRequest limit = PageRequest.of(0, size + 1);
+        List<Payment> payments;
+        if (id == null) {
+            payments = paymentRepository.findAllOrderByDateDesc(limit);
+        } else if (date == null) {
+            payments = paymentRepository.findAllWithoutDateAfter(id, limit);
+        } else {
+            payments = paymentRepository.findAllAfter(date, id, limit);
+        }
+        boolean hasNext = payments.size() > size;
+        return new SliceImpl<>(hasNext ? payments.subList(0, size) : payments, PageRequest.of(0, size), hasNext);
+    }
+
     /**
      * Get all payments for a specific student.
      *
@@ -107,7 +157,7 @@ public class PaymentService {
     @Transactional(readOnly = true)
     public Optional<Payment> findOne(Long id) {
         LOG.debug("Request to get Payment : {}", id);
-        return paymentRepository.findById(id);
+        return paymentRepository.findOneWithToOneRelationships(id);
     }
 
     /**
@@ -117,6 +167,16 @@ public class PaymentService {
      */
     public void delete(Long id) {
         LOG.debug("Request to delete Payment : {}", id);
+        applicationEventPublisher.publishEvent(new DashboardDataChangedEvent(Payment.class));
+        Optional<PaymentRevenueEntry> previous = paymentRepository.findRevenueEntryById(id);
         paymentRepository.deleteById(id);
+        paymentRevenueRollupService.replace(previous, Optional.empty());
+    }
+
+    private Payment saveAndRollUp(Payment payment, Optional<PaymentRevenueEntry> previous) {
+        Payment result = paymentRepository.save(payment);
+        // The projection query flushes the pending write, so it sees the new state of the payment
+        paymentRevenueRollupService.replace(previous, paymentRepository.findRevenueEntryById(result.getId()));
+        return result;
     }
 }
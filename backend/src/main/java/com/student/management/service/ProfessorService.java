@@ -17,14 +17,19 @@ import com.student.management.service.dto.ProfessorWithAssignmentsDTO;
 import com.student.management.service.dto.ProfessorWithCourseAssignmentsDTO;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -47,6 +52,8 @@ public class ProfessorService {
     private final StudentGroupRepository studentGroupRepository;
     private final CourseAssignmentRepository courseAssignmentRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UserService userService;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     public ProfessorService(
         ProfessorRepository professorRepository,
@@ -54,13 +61,17 @@ public class ProfessorService {
         SubjectRepository subjectRepository,
         StudentGroupRepository studentGroupRepository,
         CourseAssignmentRepository courseAssignmentRepository,
-        PasswordEncoder passwordEncoder) {
+        PasswordEncoder passwordEncoder,
+        UserService userService,
+        ApplicationEventPublisher applicationEventPublisher) {
         this.professorRepository = professorRepository;
         this.userRepository = userRepository;
         this.subjectRepository = subjectRepository;
         this.studentGroupRepository = studentGroupRepository;
         this.courseAssignmentRepository = courseAssignmentRepository;
         this.passwordEncoder = passwordEncoder;
+        this.userService = userService;
+        this.applicationEventPublisher = applicationEventPublisher;
     }
 
     /**
@@ -71,6 +82,7 @@ public class ProfessorService {
      */
     public Professor save(Professor professor) {
         LOG.debug("Request to save Professor : {}", professor);
+        applicationEventPublisher.publishEvent(new DashboardDataChangedEvent(Professor.class));
         if (professor.getUser() != null && professor.getUser().getId() == null) {
             // Create and save the new user
             String tempLogin = "professor" + System.currentTimeMillis();
@@ -102,6 +114,7 @@ public class ProfessorService {
     @Transactional
     public List<CourseAssignment> saveWithCourseAssignments(ProfessorWithCourseAssignmentsDTO dto) {
         LOG.debug("Request to save Professor with course assignments : {}", dto);
+        applicationEventPublisher.publishEvent(new DashboardDataChangedEvent(Professor.class));
 
         // Check if email already exists
         if (dto.getUser() != null && dto.getUser().getEmail() != null) {
@@ -141,41 +154,15 @@ public class ProfessorService {
         professor = professorRepository.save(professor);
 
         // Create course assignments
-        List<CourseAssignment> createdAssignments = new ArrayList<>();
-
-        for (ProfessorWithCourseAssignmentsDTO.SubjectGroupAssignmentDTO subjectGroup : dto.getSubjectGroups()) {
-            // Get subject
-            Optional<Subject> subjectOpt = subjectRepository.findById(subjectGroup.getSubject().getId());
-
-            if (subjectOpt.isPresent()) {
-                Subject subject = subjectOpt.get();
-
-                // Create assignments for each student group
-                for (ProfessorWithCourseAssignmentsDTO.StudentGroupDTO groupDto : subjectGroup.getStudentGroup()) {
-                    Optional<StudentGroup> groupOpt = studentGroupRepository.findById(groupDto.getId());
-
-                    if (groupOpt.isPresent()) {
-                        StudentGroup group = groupOpt.get();
-
-                        // Create and save course assignment
-                        CourseAssignment assignment = new CourseAssignment();
-                        assignment.setProfessor(professor);
-                        assignment.setSubject(subject);
-                        assignment.setStudentGroup(group);
-
-                        assignment = courseAssignmentRepository.save(assignment);
-                        createdAssignments.add(assignment);
-                    }
-                }
-            }
-        }
+        List<CourseAssignment> createdAssignments = applyCourseAssignments(professor, List.of(), dto.getSubjectGroups());
 
         return createdAssignments;
     }
 
     /**
      * Update a professor with course assignments.
-     * This method will update the professor information and replace existing course assignments.
+     * This method will update the professor information and replace existing course assignments,
+     * keeping the assignments that did not change.
      *
      * @param dto the data transfer object with professor and course assignment details.
      * @return the list of updated course assignments.
@@ -185,6 +172,7 @@ public class ProfessorService {
     @Transactional
     public List<CourseAssignment> updateWithCourseAssignments(ProfessorWithCourseAssignmentsDTO dto) {
         LOG.debug("Request to update Professor with course assignments : {}", dto);
+        applicationEventPublisher.publishEvent(new DashboardDataChangedEvent(Professor.class));
 
         if (dto.getId() == null) {
             throw new IllegalArgumentException("Professor ID cannot be null for update");
@@ -201,6 +189,7 @@ public class ProfessorService {
 
         // Update user information if provided
         if (dto.getUser() != null) {
+            userService.clearUserCaches(user);
             if (dto.getUser().getEmail() != null && !dto.getUser().getEmail().equals(user.getEmail())) {
                 // Check if the new email is already in use by someone else
                 userRepository.findOneByEmailIgnoreCase(dto.getUser().getEmail())
@@ -226,45 +215,109 @@ public class ProfessorService {
             professor = professorRepository.save(professor);
         }
 
-        // Delete existing course assignments for this professor
-        List<CourseAssignment> existingAssignments = courseAssignmentRepository.findByProfessorId(professor.getId());
-        for (CourseAssignment assignment : existingAssignments) {
-            courseAssignmentRepository.delete(assignment);
-        }
-
-        // Create new course assignments
-        List<CourseAssignment> updatedAssignments = new ArrayList<>();
-
-        if (dto.getSubjectGroups() != null) {
-            for (ProfessorWithCourseAssignmentsDTO.SubjectGroupAssignmentDTO subjectGroup : dto.getSubjectGroups()) {
-                // Get subject
-                Optional<Subject> subjectOpt = subjectRepository.findById(subjectGroup.getSubject().getId());
-
-                if (subjectOpt.isPresent()) {
-                    Subject subject = subjectOpt.get();
+        // Only delete and insert the assignments that changed
+        List<CourseAssignment> updatedAssignments = applyCourseAssignments(
+            professor,
+            courseAssignmentRepository.findByProfessorIdIn(List.of(professor.getId())),
+            dto.getSubjectGroups()
+        );
 
-                    // Create assignments for each student group
-                    for (ProfessorWithCourseAssignmentsDTO.StudentGroupDTO groupDto : subjectGroup.getStudentGroup()) {
-                        Optional<StudentGroup> groupOpt = studentGroupRepository.findById(groupDto.getId());
-
-                        if (groupOpt.isPresent()) {
-                            StudentGroup group = groupOpt.get();
+        return updatedAssignments;
+    }
 
-                            // Create and save course assignment
-                            CourseAssignment assignment = new CourseAssignment();
-                            assignment.setProfessor(professor);
-                            assignment.setSubject(subject);
-                            assignment.setStudentGroup(group);
+    /**
+     * A subject taught to a student group.
+     */
+    private record AssignmentKey(Long subjectId, Long studentGroupId) {
+        static AssignmentKey of(CourseAssignment courseAssignment) {
+            return new AssignmentKey(courseAssignment.getSubject().getId(), courseAssignment.getStudentGroup().getId());
+        }
+    }
 
-                            assignment = courseAssignmentRepository.save(assignment);
-                            updatedAssignments.add(assignment);
-                        }
+    /**
+     * Make the course assignments of a professor match the requested subject groups.
+     * The assignments no longer requested are deleted with a single statement, the new ones are inserted in JDBC batches,
+     * and the others are left untouched. Unknown subjects and student groups are skipped.
+     *
+     * @param professor the professor.
+     * @param currentAssignments the current course assignments of the professor.
+     * @param subjectGroups the requested subject groups, may be null.
+     * @return the course assignments of the professor, in the requested order.
+     */
+    private List<CourseAssignment> applyCourseAssignments(
+        Professor professor,
+        List<CourseAssignment> currentAssignments,
+        List<ProfessorWithCourseAssignmentsDTO.SubjectGroupAssignmentDTO> subjectGroups
+    ) {
+        Set<AssignmentKey> requested = new LinkedHashSet<>();
+        if (subjectGroups != null) {
+            for (ProfessorWithCourseAssignmentsDTO.SubjectGroupAssignmentDTO subjectGroup : subjectGroups) {
+                Long subjectId = subjectGroup.getSubject() != null ? subjectGroup.getSubject().getId() : null;
+                if (subjectId == null || subjectGroup.getStudentGroup() == null) {
+                    continue;
+                }
+                for (ProfessorWithCourseAssignmentsDTO.StudentGroupDTO groupDto : subjectGroup.getStudentGroup()) {
+                    if (groupDto.getId() != null) {
+                        requested.add(new AssignmentKey(subjectId, groupDto.getId()));
                     }
                 }
             }
         }
 
-        return updatedAssignments;
+        // Keep one assignment per requested pair, delete the others, duplicates included
+        Map<AssignmentKey, CourseAssignment> kept = new HashMap<>();
+        List<Long> removedIds = new ArrayList<>();
+        for (CourseAssignment courseAssignment : currentAssignments) {
+            AssignmentKey key = AssignmentKey.of(courseAssignment);
+            if (!requested.contains(key) || kept.putIfAbsent(key, courseAssignment) != null) {
+                removedIds.add(courseAssignment.getId());
+            }
+        }
+        if (!removedIds.isEmpty()) {
+            courseAssignmentRepository.deleteAllByIdInBatch(removedIds);
+        }
+
+        // Load the subjects and student groups of the added pairs with one query each
+        Set<Long> subjectIds = new HashSet<>();
+        Set<Long> studentGroupIds = new HashSet<>();
+        for (AssignmentKey key : requested) {
+            if (!kept.containsKey(key)) {
+                subjectIds.add(key.subjectId());
+                studentGroupIds.add(key.studentGroupId());
+            }
+        }
+        Map<Long, Subject> subjects = subjectIds.isEmpty()
+            ? Map.of()
+            : subjectRepository.findAllById(subjectIds).stream().collect(Collectors.toMap(Subject::getId, Function.identity()));
+        Map<Long, StudentGroup> studentGroups = studentGroupIds.isEmpty()
+            ? Map.of()
+            : studentGroupRepository
+                .findAllById(studentGroupIds)
+                .stream()
+                .collect(Collectors.toMap(StudentGroup::getId, Function.identity()));
+
+        List<CourseAssignment> assignments = new ArrayList<>(requested.size());
+        List<CourseAssignment> addedAssignments = new ArrayList<>();
+        for (AssignmentKey key : requested) {
+            CourseAssignment assignment = kept.get(key);
+            if (assignment == null) {
+                Subject subject = subjects.get(key.subjectId());
+                StudentGroup group = studentGroups.get(key.studentGroupId());
+                if (subject == null || group == null) {
+                    continue;
+                }
+                assignment = new CourseAssignment();
+                assignment.setProfessor(professor);
+                assignment.setSubject(subject);
+                assignment.setStudentGroup(group);
+                addedAssignments.add(assignment);
+            }
+            assignments.add(assignment);
+        }
+        // The ids come from the pooled sequence, the inserts are batched at flush
+        courseAssignmentRepository.saveAll(addedAssignments);
+        LOG.debug("Professor {}: {} course assignments added, {} removed", professor.getId(), addedAssignments.size(), removedIds.size());
+        return assignments;
     }
 
     /**
@@ -275,6 +328,7 @@ public class ProfessorService {
      */
     public Professor update(Professor professor) {
         LOG.debug("Request to update Professor : {}", professor);
+        applicationEventPublisher.publishEvent(new DashboardDataChangedEvent(Professor.class));
         return professorRepository.save(professor);
     }
 
@@ -286,6 +340,7 @@ public class ProfessorService {
      */
     public Optional<Professor> partialUpdate(Professor professor) {
         LOG.debug("Request to partially update Professor : {}", professor);
+        applicationEventPublisher.publishEvent(new DashboardDataChangedEvent(Professor.class));
 
         return professorRepository.findById(professor.getId()).map(professorRepository::save);
     }
@@ -324,12 +379,15 @@ public class ProfessorService {
         // Get professors with eager relationships
         Page<Professor> professors = findAllWithEagerRelationships(pageable);
 
-        // Convert to list and associate course assignments
+        // Load the course assignments of the whole page at once, then group them by professor
+        List<Long> professorIds = professors.getContent().stream().map(Professor::getId).toList();
+        Map<Long, List<CourseAssignment>> assignmentsByProfessorId = professorIds.isEmpty()
+            ? Map.of()
+            : courseAssignmentRepository.findByProfessorIdIn(professorIds).stream()
+                .collect(Collectors.groupingBy(courseAssignment -> courseAssignment.getProfessor().getId()));
+
         List<ProfessorDTO> result = professors.getContent().stream()
-            .map(professor -> {
-                List<CourseAssignment> assignments = courseAssignmentRepository.findByProfessorId(professor.getId());
-                return new ProfessorDTO(professor, assignments);
-            })
+            .map(professor -> new ProfessorDTO(professor, assignmentsByProfessorId.getOrDefault(professor.getId(), new ArrayList<>())))
             .collect(Collectors.toList());
 
         return new PageImpl<>(result, pageable, professors.getTotalElements());
@@ -346,10 +404,7 @@ public class ProfessorService {
         LOG.debug("Request to get Professor with course assignments: {}", id);
 
         return professorRepository.findOneWithEagerRelationships(id)
-            .map(professor -> {
-                List<CourseAssignment> assignments = courseAssignmentRepository.findByProfessorId(professor.getId());
-                return new ProfessorDTO(professor, assignments);
-            });
+            .map(professor -> new ProfessorDTO(professor, courseAssignmentRepository.findByProfessorIdIn(List.of(professor.getId()))));
     }
 
     /**
@@ -372,6 +427,7 @@ public class ProfessorService {
      */
     public void delete(Long id) {
         LOG.debug("Request to delete Professor : {}", id);
+        applicationEventPublisher.publishEvent(new DashboardDataChangedEvent(Professor.class));
 
         // Check if professor has course assignments before deletion
         List<CourseAssignment> existingAssignments = courseAssignmentRepository.findByProfessorId(id);
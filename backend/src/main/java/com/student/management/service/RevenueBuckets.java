@@ -0,0 +1,194 @@
+package com.student.management.service;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.IsoFields;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Arrays;
+
+/**
+ * Consecutive time buckets of a granularity covering a date range in a time zone.
+ * <p>
+ * Bucket boundaries are computed once as epoch milliseconds, so that assigning a date to its bucket
+ * is a binary search over a {@code long[]}, without any calendar computation.
+ */
+public final class RevenueBuckets {
+
+    /**
+     * The size of the buckets.
+     */
+    public enum Granularity {
+        DAY,
+        WEEK,
+        MONTH,
+        QUARTER;
+
+        /**
+         * @param date a date.
+         * @return the first day of the bucket containing the date, weeks start on Monday.
+         */
+        LocalDate startOf(LocalDate date) {
+            return switch (this) {
+                case DAY -> date;
+                case WEEK -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+                case MONTH -> date.withDayOfMonth(1);
+                case QUARTER -> date.with(IsoFields.DAY_OF_QUARTER, 1);
+            };
+        }
+
+        /**
+         * @param start the first day of a bucket.
+         * @return the first day of the next bucket.
+         */
+        LocalDate next(LocalDate start) {
+            return switch (this) {
+                case DAY -> start.plusDays(1);
+                case WEEK -> start.plusWeeks(1);
+                case MONTH -> start.plusMonths(1);
+                case QUARTER -> start.plusMonths(3);
+            };
+        }
+    }
+
+    /**
+     * The first day that buckets can cover.
+     */
+    public static final LocalDate MIN_DATE = LocalDate.of(1970, 1, 1);
+
+    /**
+     * The last day that buckets can cover, so that the boundaries and the number of buckets cannot overflow.
+     */
+    public static final LocalDate MAX_DATE = LocalDate.of(9999, 12, 31);
+
+    private final Granularity granularity;
+
+    private final ZoneId zone;
+
+    /**
+     * First day of each bucket, followed by the first day after the last bucket.
+     */
+    private final LocalDate[] starts;
+
+    /**
+     * Start of each bucket in epoch milliseconds, followed by the end of the last bucket.
+     */
+    private final long[] boundaries;
+
+    /**
+     * @param granularity the size of the buckets.
+     * @param zone the time zone in which days start.
+     * @param from the first day to cover, the first bucket starts at the start of its bucket.
+     * @param to the last day to cover, included.
+     * @throws IllegalArgumentException if {@code to} is before {@code from}, or if the range is not between
+     * {@link #MIN_DATE} and {@link #MAX_DATE}.
+     */
+    public RevenueBuckets(Granularity granularity, ZoneId zone, LocalDate from, LocalDate to) {
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("The end of the range " + to + " is before its start " + from);
+        }
+        if (!isSupported(from) || !isSupported(to)) {
+            throw new IllegalArgumentException("The range " + from + " to " + to + " is not between " + MIN_DATE + " and " + MAX_DATE);
+        }
+        this.granularity = granularity;
+        this.zone = zone;
+        int size = countBuckets(granularity, from, to);
+        this.starts = new LocalDate[size + 1];
+        this.boundaries = new long[size + 1];
+        LocalDate start = granularity.startOf(from);
+        for (int i = 0; i <= size; i++) {
+            starts[i] = start;
+            boundaries[i] = start.atStartOfDay(zone).toInstant().toEpochMilli();
+            start = granularity.next(start);
+        }
+    }
+
+    /**
+     * @param date a date.
+     * @return whether buckets can cover the date, i.e. it is between {@link #MIN_DATE} and {@link #MAX_DATE}.
+     */
+    public static boolean isSupported(LocalDate date) {
+        return !date.isBefore(MIN_DATE) && !date.isAfter(MAX_DATE);
+    }
+
+    /**
+     * Count the buckets needed to cover a date range, without allocating them.
+     *
+     * @param granularity the size of the buckets.
+     * @param from the first day to cover, from {@link #MIN_DATE}.
+     * @param to the last day to cover, included, up to {@link #MAX_DATE}.
+     * @return the number of buckets.
+     */
+    public static int countBuckets(Granularity granularity, LocalDate from, LocalDate to) {
+        LocalDate firstStart = granularity.startOf(from);
+        LocalDate lastStart = granularity.startOf(to);
+        long count =
+            switch (granularity) {
+                case DAY -> ChronoUnit.DAYS.between(firstStart, lastStart);
+                case WEEK -> ChronoUnit.WEEKS.between(firstStart, lastStart);
+                case MONTH -> ChronoUnit.MONTHS.between(firstStart, lastStart);
+                case QUARTER -> ChronoUnit.MONTHS.between(firstStart, lastStart) / 3;
+            } +
+            1;
+        return Math.toIntExact(count);
+    }
+
+    public Granularity getGranularity() {
+        return granularity;
+    }
+
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    public int size() {
+        return starts.length - 1;
+    }
+
+    /**
+     * @param index the index of a bucket.
+     * @return the first day of the bucket.
+     */
+    public LocalDate getStart(int index) {
+        return starts[index];
+    }
+
+    /**
+     * @param index the index of a bucket.
+     * @return the first day after the bucket.
+     */
+    public LocalDate getEnd(int index) {
+        return starts[index + 1];
+    }
+
+    /**
+     * @return the start of the first bucket.
+     */
+    public Instant getFrom() {
+        return Instant.ofEpochMilli(boundaries[0]);
+    }
+
+    /**
+     * @return the end of the last bucket, excluded.
+     */
+    public Instant getTo() {
+        return Instant.ofEpochMilli(boundaries[boundaries.length - 1]);
+    }
+
+    /**
+     * Find the bucket containing an instant.
+     *
+     * @param epochMilli the instant in epoch milliseconds.
+     * @return the index of the bucket, or {@code -1} if the instant is outside the buckets.
+     */
+    public int indexOf(long epochMilli) {
+        int index = Arrays.binarySearch(boundaries, epochMilli);
+        if (index < 0) {
+            // Insertion point minus one is the bucket starting before the instant
+            index = -index - 2;
+        }
+        return index < size() ? index : -1;
+    }
+}
@@ -8,6 +8,7 @@ import com.student.management.service.exception.BusinessException;
 import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -24,10 +25,16 @@ public class StudentGroupService {
 
     private final StudentGroupRepository studentGroupRepository;
     private final StudentRepository studentRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
-    public StudentGroupService(StudentGroupRepository studentGroupRepository, StudentRepository studentRepository) {
+    public StudentGroupService(
+        StudentGroupRepository studentGroupRepository,
+        StudentRepository studentRepository,
+        ApplicationEventPublisher applicationEventPublisher
+    ) {
         this.studentGroupRepository = studentGroupRepository;
         this.studentRepository = studentRepository;
+        this.applicationEventPublisher = applicationEventPublisher;
     }
 
     /**
@@ -38,6 +45,7 @@ public class StudentGroupService {
      */
     public StudentGroup save(StudentGroup studentGroup) {
         LOG.debug("Request to save StudentGroup : {}", studentGroup);
+        applicationEventPublisher.publishEvent(new DashboardDataChangedEvent(StudentGroup.class));
         return studentGroupRepository.save(studentGroup);
     }
 
@@ -49,6 +57,7 @@ public class StudentGroupService {
      */
     public StudentGroup update(StudentGroup studentGroup) {
         LOG.debug("Request to update StudentGroup : {}", studentGroup);
+        applicationEventPublisher.publishEvent(new DashboardDataChangedEvent(StudentGroup.class));
         return studentGroupRepository.save(studentGroup);
     }
 
@@ -60,6 +69,7 @@ public class StudentGroupService {
      */
     public Optional<StudentGroup> partialUpdate(StudentGroup studentGroup) {
         LOG.debug("Request to partially update StudentGroup : {}", studentGroup);
+        applicationEventPublisher.publishEvent(new DashboardDataChangedEvent(StudentGroup.class));
 
         return studentGroupRepository
             .findById(studentGroup.getId())
@@ -117,6 +127,7 @@ public class StudentGroupService {
      */
     public void delete(Long id) {
         LOG.debug("Request to delete StudentGroup : {}", id);
+        applicationEventPublisher.publishEvent(new DashboardDataChangedEvent(StudentGroup.class));
         
         // Check if there are students associated with this group
         if (studentRepository.existsByStudentGroupId(id)) {
@@ -161,4 +172,15 @@ public class StudentGroupService {
 
         return studentGroupRepository.findByProfessorLogin(currentUserLogin, pageable);
     }
+
+    /**
+     * Get all the studentGroups for the current logged-in professor, with their subjects.
+     *
+     * @param pageable the pagination information
+     * @return the list of entities
+     */
+    @Transactional(readOnly = true)
+    public Page<StudentGroup> findByCurrentProfessorWithEagerRelationships(Pageable pageable) {
+        return studentGroupRepository.fetchBagRelationships(findByCurrentProfessor(pageable));
+    }
 }
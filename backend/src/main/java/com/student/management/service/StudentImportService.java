@@ -0,0 +1,342 @@
+package com.student.management.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.student.management.config.ApplicationProperties;
+import com.student.management.domain.Student;
+import com.student.management.domain.User;
+import com.student.management.repository.StudentGroupRepository;
+import com.student.management.repository.StudentImportRepository;
+import com.student.management.repository.StudentImportRepository.NewStudent;
+import com.student.management.repository.UserRepository;
+import com.student.management.repository.projection.StudentGroupName;
+import com.student.management.security.AuthoritiesConstants;
+import com.student.management.security.SecurityUtils;
+import com.student.management.service.dto.StudentImportResultDTO;
+import com.student.management.service.dto.StudentImportRowResultDTO;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tech.jhipster.security.RandomUtil;
+
+/**
+ * Service importing students in bulk, from NDJSON or CSV.
+ * <p>
+ * Both formats give the fields {@code firstName}, {@code lastName}, {@code email}, {@code phone}, {@code langKey}
+ * and {@code studentGroup}, the name of the group of the student. CSV columns can come in any order and values
+ * can be quoted, see {@link CsvColumns}.
+ * <p>
+ * The groups are loaded once, as a map from their name to their id. The input is then read one line at a time and
+ * written in chunks of {@code application.student-import.chunk-size} students, each in its own transaction: the ids of
+ * a chunk are allocated up front, the logins {@code "student" + id} are derived from them, and the users, their
+ * authorities and the students are inserted in JDBC batches. A chunk that fails is rejected as a whole, the previous
+ * chunks stay imported.
+ * <p>
+ * As the users created by an administrator, the imported users are activated with a random password nobody knows,
+ * and a reset key, sent by the creation email to the users having an email, with which they choose their password.
+ * Once the key has expired, they can request a new one with their email.
+ */
+@Service
+public class StudentImportService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(StudentImportService.class);
+
+    private static final String DEFAULT_LANG_KEY = "en";
+
+    /**
+     * The fields of an imported student.
+     */
+    record ImportedStudent(String firstName, String lastName, String email, String phone, String langKey, String studentGroup) {}
+
+    private record Row(long line, ImportedStudent student, Long studentGroupId) {}
+
+    private final StudentImportRepository studentImportRepository;
+
+    private final StudentGroupRepository studentGroupRepository;
+
+    private final UserRepository userRepository;
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    private final PasswordEncoder passwordEncoder;
+
+    private final MailService mailService;
+
+    private final ObjectMapper objectMapper;
+
+    private final TransactionTemplate chunkTransactionTemplate;
+
+    private final int chunkSize;
+
+    public StudentImportService(
+        StudentImportRepository studentImportRepository,
+        StudentGroupRepository studentGroupRepository,
+        UserRepository userRepository,
+        ApplicationEventPublisher applicationEventPublisher,
+        PasswordEncoder passwordEncoder,
+        MailService mailService,
+        ObjectMapper objectMapper,
+        PlatformTransactionManager transactionManager,
+        ApplicationProperties applicationProperties
+    ) {
+        this.studentImportRepository = studentImportRepository;
+        this.studentGroupRepository = studentGroupRepository;
+        this.userRepository = userRepository;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.passwordEncoder = passwordEncoder;
+        this.mailService = mailService;
+        this.objectMapper = objectMapper;
+        this.chunkTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = Math.max(1, applicationProperties.getStudentImport().getChunkSize());
+    }
+
+    /**
+     * Import students, each with a new user.
+     *
+     * @param input the imported file, read up to its end but not closed.
+     * @param format the format of the file.
+     * @return the outcome of each row.
+     * @throws IOException if the input cannot be read.
+     */
+    public StudentImportResultDTO importStudents(Reader input, BulkFileFormat format) throws IOException {
+        LOG.debug("Request to import Students from {}", format);
+        BufferedReader reader = new BufferedReader(input);
+        List<StudentImportRowResultDTO> results = new ArrayList<>();
+        List<Row> chunk = new ArrayList<>(chunkSize);
+        long line = 0;
+        CsvColumns csvColumns = null;
+        if (format == BulkFileFormat.CSV) {
+            String header = reader.readLine();
+            line++;
+            if (header == null) {
+                return new StudentImportResultDTO(0, 0, List.of());
+            }
+            csvColumns = new CsvColumns(header);
+        }
+
+        Map<String, Long> studentGroupIds = loadStudentGroupIds();
+        Set<String> emails = new HashSet<>();
+        String createdBy = SecurityUtils.getCurrentUserLogin().orElse("system");
+        // Encoding is slow by design, so the unknown random password is encoded once for the whole import
+        String passwordHash = passwordEncoder.encode(RandomUtil.generatePassword());
+        String text;
+        while ((text = reader.readLine()) != null) {
+            line++;
+            if (text.isBlank()) {
+                continue;
+            }
+            // A quoted value may span several lines, the record is reported under its first line
+            long recordLine = line;
+            String next;
+            while (csvColumns != null && CsvColumns.isUnterminated(text) && (next = reader.readLine()) != null) {
+                line++;
+                text = text + '\n' + next;
+            }
+            try {
+                ImportedStudent student = validate(format == BulkFileFormat.CSV ? parseCsv(csvColumns, text) : parseJson(text));
+                Long studentGroupId = resolveStudentGroup(studentGroupIds, student.studentGroup());
+                if (student.email() != null && !emails.add(student.email())) {
+                    throw new IllegalArgumentException("Duplicate email " + student.email());
+                }
+                chunk.add(new Row(recordLine, student, studentGroupId));
+            } catch (IllegalArgumentException | JsonProcessingException e) {
+                results.add(new StudentImportRowResultDTO(recordLine, null, null, e.getMessage()));
+            }
+            if (chunk.size() == chunkSize) {
+                results.addAll(writeChunk(chunk, passwordHash, createdBy));
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            results.addAll(writeChunk(chunk, passwordHash, createdBy));
+        }
+
+        results.sort(Comparator.comparingLong(StudentImportRowResultDTO::line));
+        int imported = (int) results.stream().filter(result -> result.studentId() != null).count();
+        LOG.info("Imported {} students, rejected {} rows", imported, results.size() - imported);
+        return new StudentImportResultDTO(imported, results.size() - imported, results);
+    }
+
+    /**
+     * Map the lower-cased name of every group to its id. A name shared by several groups maps to {@code null},
+     * so that it is rejected rather than resolved to one of them.
+     */
+    private Map<String, Long> loadStudentGroupIds() {
+        Map<String, Long> studentGroupIds = new HashMap<>();
+        for (StudentGroupName studentGroup : studentGroupRepository.findAllNames()) {
+            if (studentGroup.name() != null) {
+                String key = studentGroup.name().trim().toLowerCase(Locale.ROOT);
+                studentGroupIds.put(key, studentGroupIds.containsKey(key) ? null : studentGroup.studentGroupId());
+            }
+        }
+        return studentGroupIds;
+    }
+
+    private static Long resolveStudentGroup(Map<String, Long> studentGroupIds, String name) {
+        if (name == null) {
+            return null;
+        }
+        String key = name.toLowerCase(Locale.ROOT);
+        if (!studentGroupIds.containsKey(key)) {
+            throw new IllegalArgumentException("Unknown student group " + name);
+        }
+        Long studentGroupId = studentGroupIds.get(key);
+        if (studentGroupId == null) {
+            throw new IllegalArgumentException("Ambiguous student group " + name);
+        }
+        return studentGroupId;
+    }
+
+    private List<StudentImportRowResultDTO> writeChunk(List<Row> chunk, String passwordHash, String createdBy) {
+        List<NewStudent> students = new ArrayList<>(chunk.size());
+        List<StudentImportRowResultDTO> chunkResults;
+        try {
+            chunkResults = chunkTransactionTemplate.execute(status -> {
+                Set<String> emails = new HashSet<>();
+                chunk.stream().map(row -> row.student().email()).filter(email -> email != null).forEach(emails::add);
+                // The emails of the rows are lower-cased, the stored ones may not be
+                Set<String> usedEmails = new HashSet<>();
+                if (!emails.isEmpty()) {
+                    userRepository.findUsedEmails(emails).forEach(email -> usedEmails.add(email.toLowerCase(Locale.ROOT)));
+                }
+
+                List<StudentImportRowResultDTO> results = new ArrayList<>(chunk.size());
+                List<Row> accepted = new ArrayList<>(chunk.size());
+                for (Row row : chunk) {
+                    if (usedEmails.contains(row.student().email())) {
+                        results.add(new StudentImportRowResultDTO(row.line(), null, null, "Email already used " + row.student().email()));
+                    } else {
+                        accepted.add(row);
+                    }
+                }
+
+                long[] ids = studentImportRepository.allocateUserIds(accepted.size());
+                for (int i = 0; i < accepted.size(); i++) {
+                    Row row = accepted.get(i);
+                    ImportedStudent imported = row.student();
+                    String login = "student" + ids[i];
+                    students.add(
+                        new NewStudent(
+                            ids[i],
+                            login,
+                            imported.firstName(),
+                            imported.lastName(),
+                            imported.email(),
+                            imported.langKey() != null ? imported.langKey() : DEFAULT_LANG_KEY,
+                            RandomUtil.generateResetKey(),
+                            imported.phone(),
+                            row.studentGroupId()
+                        )
+                    );
+                    results.add(new StudentImportRowResultDTO(row.line(), ids[i], login, null));
+                }
+                studentImportRepository.insertAll(students, AuthoritiesConstants.STUDENT, passwordHash, createdBy);
+                if (!students.isEmpty()) {
+                    applicationEventPublisher.publishEvent(new DashboardDataChangedEvent(Student.class));
+                }
+                return results;
+            });
+        } catch (RuntimeException e) {
+            LOG.warn("Could not import the students of lines {} to {}", chunk.get(0).line(), chunk.get(chunk.size() - 1).line(), e);
+            return chunk
+                .stream()
+                .map(row -> new StudentImportRowResultDTO(row.line(), null, null, "Chunk not imported: " + e.getMessage()))
+                .toList();
+        }
+        // Only once the chunk is committed, the users of a rejected chunk do not exist
+        students
+            .stream()
+            .filter(student -> student.email() != null)
+            .map(StudentImportService::toUser)
+            .forEach(mailService::sendCreationEmail);
+        return chunkResults;
+    }
+
+    private static User toUser(NewStudent student) {
+        User user = new User();
+        user.setId(student.id());
+        user.setLogin(student.login());
+        user.setFirstName(student.firstName());
+        user.setLastName(student.lastName());
+        user.setEmail(student.email());
+        user.setLangKey(student.langKey());
+        user.setResetKey(student.resetKey());
+        return user;
+    }
+
+    private ImportedStudent parseJson(String text) throws JsonProcessingException {
+        return objectMapper.readValue(text, ImportedStudent.class);
+    }
+
+    private static ImportedStudent parseCsv(CsvColumns columns, String text) {
+        String[] values = CsvColumns.split(text);
+        return new ImportedStudent(
+            columns.value(values, "firstname"),
+            columns.value(values, "lastname"),
+            columns.value(values, "email"),
+            columns.value(values, "phone"),
+            columns.value(values, "langkey"),
+            columns.value(values, "studentgroup")
+        );
+    }
+
+    private static ImportedStudent validate(ImportedStudent student) {
+        if (student == null) {
+            throw new IllegalArgumentException("Empty student");
+        }
+        String firstName = trimToNull(student.firstName());
+        String lastName = trimToNull(student.lastName());
+        String email = trimToNull(student.email());
+        String phone = trimToNull(student.phone());
+        String langKey = trimToNull(student.langKey());
+        if (firstName == null) {
+            throw new IllegalArgumentException("Missing first name");
+        }
+        if (lastName == null) {
+            throw new IllegalArgumentException("Missing last name");
+        }
+        if (firstName.length() > 50 || lastName.length() > 50) {
+            throw new IllegalArgumentException("Name longer than 50 characters");
+        }
+        if (email != null && (email.length() < 5 || email.length() > 254 || !email.contains("@"))) {
+            throw new IllegalArgumentException("Invalid email " + email);
+        }
+        if (phone != null && !phone.matches("\\d{10}")) {
+            throw new IllegalArgumentException("Phone number must be exactly 10 digits");
+        }
+        if (langKey != null && (langKey.length() < 2 || langKey.length() > 10)) {
+            throw new IllegalArgumentException("Invalid language " + langKey);
+        }
+        return new ImportedStudent(
+            firstName,
+            lastName,
+            email != null ? email.toLowerCase(Locale.ROOT) : null,
+            phone,
+            langKey,
+            trimToNull(student.studentGroup())
+        );
+    }
+
+    private static String trimToNull(String value) {
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+}
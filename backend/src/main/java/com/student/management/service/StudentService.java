@@ -9,8 +9,12 @@ import java.util.List;
 import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,9 +31,20 @@ public class StudentService {
 
     private final UserRepository userRepository;
 
-    public StudentService(StudentRepository studentRepository, UserRepository userRepository) {
+    private final UserService userService;
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    public StudentService(
+        StudentRepository studentRepository,
+        UserRepository userRepository,
+        UserService userService,
+        ApplicationEventPublisher applicationEventPublisher
+    ) {
         this.studentRepository = studentRepository;
         this.userRepository = userRepository;
+        this.userService = userService;
+        this.applicationEventPublisher = applicationEventPublisher;
     }
 
     /**
@@ -40,6 +55,7 @@ public class StudentService {
      */
     public Student save(Student student) {
         LOG.debug("Request to save Student : {}", student);
+        applicationEventPublisher.publishEvent(new DashboardDataChangedEvent(Student.class));
         
         // Validate phone number
         validatePhoneNumber(student);
@@ -107,10 +123,11 @@ public class StudentService {
      * Update a student.
      *
      * @param student the entity to save.
-     * @return the persisted entity.
+     * @return the persisted entity, with its user and group.
      */
     public Student update(Student student) {
         LOG.debug("Request to update Student : {}", student);
+        applicationEventPublisher.publishEvent(new DashboardDataChangedEvent(Student.class));
         
         // Validate phone number
         validatePhoneNumber(student);
@@ -118,6 +135,7 @@ public class StudentService {
         if (student.getUser() != null && student.getUser().getId() != null) {
             // Get the existing user from the database
             userRepository.findById(student.getUser().getId()).ifPresent(existingUser -> {
+                userService.clearUserCaches(existingUser);
                 // Update user properties that are not null in the incoming request
                 if (student.getUser().getFirstName() != null) {
                     existingUser.setFirstName(student.getUser().getFirstName());
@@ -154,7 +172,9 @@ public class StudentService {
             });
         }
         
-        return studentRepository.save(student);
+        // Merging leaves the student group as an uninitialized proxy, serialized as its id only
+        Student result = studentRepository.save(student);
+        return studentRepository.findOneWithToOneRelationships(result.getId()).orElse(result);
     }
 
     /**
@@ -165,6 +185,7 @@ public class StudentService {
      */
     public Optional<Student> partialUpdate(Student student) {
         LOG.debug("Request to partially update Student : {}", student);
+        applicationEventPublisher.publishEvent(new DashboardDataChangedEvent(Student.class));
 
         // Validate phone number if it's being updated
         if (student.getPhone() != null) {
@@ -174,6 +195,7 @@ public class StudentService {
         // Update user data if provided
         if (student.getUser() != null && student.getUser().getId() != null) {
             userRepository.findById(student.getUser().getId()).ifPresent(existingUser -> {
+                userService.clearUserCaches(existingUser);
                 // Update only the fields that are provided
                 if (student.getUser().getFirstName() != null) {
                     existingUser.setFirstName(student.getUser().getFirstName());
@@ -192,7 +214,7 @@ public class StudentService {
             });
         }
     
-        return studentRepository.findById(student.getId())
+        return studentRepository.findOneWithToOneRelationships(student.getId())
             .map(existingStudent -> {
                 if (student.getPhone() != null) {
                     existingStudent.setPhone(student.getPhone());
@@ -205,10 +227,10 @@ public class StudentService {
     }
 
     /**
-     * Get all the students.
+     * Get all the students, without loading their user and group.
      *
      * @param pageable the pagination information.
-     * @return the list of entities.
+     * @return the list of entities, whose user and group are only serialized as their id.
      */
     @Transactional(readOnly = true)
     public Page<Student> findAll(Pageable pageable) {
@@ -217,7 +239,7 @@ public class StudentService {
     }
 
     /**
-     * Get all the students with eager load of many-to-many relationships.
+     * Get all the students with eager load of their user and group.
      *
      * @return the list of entities.
      */
@@ -225,6 +247,25 @@ public class StudentService {
         return studentRepository.findAllWithEagerRelationships(pageable);
     }
 
+    /**
+     * Get a slice of the students with their user, by increasing id, starting after an id.
+     *
+     * @param id the id after which the slice starts, or {@code null} for the first slice.
+     * @param size the maximum number of students of the slice.
+     * @return the slice of entities.
+     */
+    @Transactional(readOnly = true)
+    public Slice<Student> findAllAfter(Long id, int size) {
+        LOG.debug("Request to get {} Students after : {}", size, id);
+        // One more student tells whether there is a next slice, without counting
+        List<Student> students = studentRepository.findAllWithToOneRelationshipsByIdGreaterThan(
+            id != null ? id : Long.MIN_VALUE,
+            PageRequest.of(0, size + 1)
+        );
+        boolean hasNext = students.size() > size;
+        return new SliceImpl<>(hasNext ? students.subList(0, size) : students, PageRequest.of(0, size), hasNext);
+    }
+
     /**
      * Get one student by id.
      *
@@ -269,6 +310,7 @@ public class StudentService {
      */
     public void delete(Long id) {
         LOG.debug("Request to delete Student : {}", id);
+        applicationEventPublisher.publishEvent(new DashboardDataChangedEvent(Student.class));
         studentRepository.deleteById(id);
     }
 }
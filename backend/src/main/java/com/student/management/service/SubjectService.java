@@ -5,6 +5,7 @@ import com.student.management.repository.SubjectRepository;
 import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -21,8 +22,11 @@ public class SubjectService {
 
     private final SubjectRepository subjectRepository;
 
-    public SubjectService(SubjectRepository subjectRepository) {
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    public SubjectService(SubjectRepository subjectRepository, ApplicationEventPublisher applicationEventPublisher) {
         this.subjectRepository = subjectRepository;
+        this.applicationEventPublisher = applicationEventPublisher;
     }
 
     /**
@@ -33,6 +37,7 @@ public class SubjectService {
      */
     public Subject save(Subject subject) {
         LOG.debug("Request to save Subject : {}", subject);
+        applicationEventPublisher.publishEvent(new DashboardDataChangedEvent(Subject.class));
         return subjectRepository.save(subject);
     }
 
@@ -44,6 +49,7 @@ public class SubjectService {
      */
     public Subject update(Subject subject) {
         LOG.debug("Request to update Subject : {}", subject);
+        applicationEventPublisher.publishEvent(new DashboardDataChangedEvent(Subject.class));
         return subjectRepository.save(subject);
     }
 
@@ -55,6 +61,7 @@ public class SubjectService {
      */
     public Optional<Subject> partialUpdate(Subject subject) {
         LOG.debug("Request to partially update Subject : {}", subject);
+        applicationEventPublisher.publishEvent(new DashboardDataChangedEvent(Subject.class));
 
         return subjectRepository
             .findById(subject.getId())
@@ -111,6 +118,7 @@ public class SubjectService {
      */
     public void delete(Long id) {
         LOG.debug("Request to delete Subject : {}", id);
+        applicationEventPublisher.publishEvent(new DashboardDataChangedEvent(Subject.class));
         subjectRepository.deleteById(id);
     }
 }
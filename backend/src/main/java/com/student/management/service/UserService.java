@@ -15,9 +15,13 @@ import java.util.*;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.cache.CacheManager;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -39,10 +43,18 @@ public class UserService {
 
     private final AuthorityRepository authorityRepository;
 
-    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder, AuthorityRepository authorityRepository) {
+    private final CacheManager cacheManager;
+
+    public UserService(
+        UserRepository userRepository,
+        PasswordEncoder passwordEncoder,
+        AuthorityRepository authorityRepository,
+        CacheManager cacheManager
+    ) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.authorityRepository = authorityRepository;
+        this.cacheManager = cacheManager;
     }
 
     public Optional<User> activateRegistration(String key) {
@@ -51,6 +63,7 @@ public class UserService {
             .findOneByActivationKey(key)
             .map(user -> {
                 // activate given user for the registration key.
+                clearUserCaches(user);
                 user.setActivated(true);
                 user.setActivationKey(null);
                 LOG.debug("Activated user: {}", user);
@@ -64,6 +77,7 @@ public class UserService {
             .findOneByResetKey(key)
             .filter(user -> user.getResetDate().isAfter(Instant.now().minus(1, ChronoUnit.DAYS)))
             .map(user -> {
+                clearUserCaches(user);
                 user.setPassword(passwordEncoder.encode(newPassword));
                 user.setResetKey(null);
                 user.setResetDate(null);
@@ -129,6 +143,7 @@ public class UserService {
         }
         userRepository.delete(existingUser);
         userRepository.flush();
+        clearUserCaches(existingUser);
         return true;
     }
 
@@ -177,6 +192,8 @@ public class UserService {
             .filter(Optional::isPresent)
             .map(Optional::get)
             .map(user -> {
+                // under the login and email the user had before the update
+                clearUserCaches(user);
                 user.setLogin(userDTO.getLogin().toLowerCase());
                 user.setFirstName(userDTO.getFirstName());
                 user.setLastName(userDTO.getLastName());
@@ -213,6 +230,7 @@ public class UserService {
             .findOneByLogin(login)
             .ifPresent(user -> {
                 userRepository.delete(user);
+                clearUserCaches(user);
                 LOG.debug("Deleted User: {}", user);
             });
     }
@@ -227,6 +245,7 @@ public class UserService {
             .findById(id)
             .ifPresent(user -> {
                 userRepository.delete(user);
+                clearUserCaches(user);
                 LOG.debug("Deleted User with ID {}: {}", id, user.getLogin());
             });
     }
@@ -244,6 +263,7 @@ public class UserService {
         SecurityUtils.getCurrentUserLogin()
             .flatMap(userRepository::findOneByLogin)
             .ifPresent(user -> {
+                clearUserCaches(user);
                 user.setFirstName(firstName);
                 user.setLastName(lastName);
                 if (email != null) {
@@ -267,6 +287,7 @@ public class UserService {
                 }
                 String encryptedPassword = passwordEncoder.encode(newPassword);
                 user.setPassword(encryptedPassword);
+                clearUserCaches(user);
                 LOG.debug("Changed password for User: {}", user);
             });
     }
@@ -276,6 +297,27 @@ public class UserService {
         return userRepository.findAll(pageable).map(AdminUserDTO::new);
     }
 
+    /**
+     * Get a slice of the users with their authorities, by increasing id, starting after an id.
+     *
+     * @param id the id after which the slice starts, or {@code null} for the first slice.
+     * @param size the maximum number of users of the slice.
+     * @return the slice of users.
+     */
+    @Transactional(readOnly = true)
+    public Slice<AdminUserDTO> getAllManagedUsersAfter(Long id, int size) {
+        // One more id tells whether there is a next slice, without counting
+        List<Long> ids = userRepository.findAllIdsByIdGreaterThan(id != null ? id : Long.MIN_VALUE, PageRequest.of(0, size + 1));
+        boolean hasNext = ids.size() > size;
+        List<AdminUserDTO> users = userRepository
+            .findAllWithAuthoritiesByIdIn(new HashSet<>(hasNext ? ids.subList(0, size) : ids))
+            .stream()
+            .sorted(Comparator.comparing(User::getId))
+            .map(AdminUserDTO::new)
+            .toList();
+        return new SliceImpl<>(users, PageRequest.of(0, size), hasNext);
+    }
+
     @Transactional(readOnly = true)
     public Page<UserDTO> getAllPublicUsers(Pageable pageable) {
         return userRepository.findAllByIdNotNullAndActivatedIsTrue(pageable).map(UserDTO::new);
@@ -319,9 +361,26 @@ public class UserService {
             .forEach(user -> {
                 LOG.debug("Deleting not activated user {}", user.getLogin());
                 userRepository.delete(user);
+                clearUserCaches(user);
             });
     }
 
+    /**
+     * Evict a user from the caches of the users by login and by email, once the current transaction commits.
+     * <p>
+     * Call it before changing the login or email of the user, as the user is cached under the old ones.
+     *
+     * @param user the user.
+     */
+    public void clearUserCaches(User user) {
+        Objects.requireNonNull(cacheManager.getCache(UserRepository.USERS_BY_LOGIN_CACHE)).evict(user.getLogin());
+        if (user.getEmail() != null) {
+            Objects.requireNonNull(cacheManager.getCache(UserRepository.USERS_BY_EMAIL_CACHE)).evict(
+                user.getEmail().toLowerCase(Locale.ENGLISH)
+            );
+        }
+    }
+
     /**
      * Gets a list of all the authorities.
      * @return a list of all the authorities.
@@ -1,5 +1,7 @@
 package com.student.management.service.dto;
 
+import com.student.management.repository.projection.ProfessorActivity;
+import com.student.management.repository.projection.RecentPayment;
 import java.io.Serializable;
 import java.util.List;
 import java.util.Map;
@@ -21,11 +23,12 @@ public class DashboardDTO implements Serializable {
     private Double totalRevenue;
     private Double revenueLastMonth;
     private List<Map<String, Object>> revenueByMonth;
-    private List<Map<String, Object>> lastPayments;
-    private List<Map<String, Object>> professorActivities;
+    private List<RecentPayment> lastPayments;
+    private List<ProfessorActivity> professorActivities;
     private Map<String, Long> studentsPerGroup;
     private Map<String, Long> paymentsPerStatus;
     private RevenueOverviewDTO revenueOverview;
+    private List<String> unavailableSections;
 
     // Inner class for Revenue Overview
     public static class RevenueOverviewDTO implements Serializable {
@@ -176,19 +179,19 @@ public class DashboardDTO implements Serializable {
         this.revenueByMonth = revenueByMonth;
     }
 
-    public List<Map<String, Object>> getLastPayments() {
+    public List<RecentPayment> getLastPayments() {
         return lastPayments;
     }
 
-    public void setLastPayments(List<Map<String, Object>> lastPayments) {
+    public void setLastPayments(List<RecentPayment> lastPayments) {
         this.lastPayments = lastPayments;
     }
 
-    public List<Map<String, Object>> getProfessorActivities() {
+    public List<ProfessorActivity> getProfessorActivities() {
         return professorActivities;
     }
 
-    public void setProfessorActivities(List<Map<String, Object>> professorActivities) {
+    public void setProfessorActivities(List<ProfessorActivity> professorActivities) {
         this.professorActivities = professorActivities;
     }
 
@@ -216,6 +219,17 @@ public class DashboardDTO implements Serializable {
         this.revenueOverview = revenueOverview;
     }
 
+    /**
+     * @return the names of the sections that could not be computed in time, their fields are left empty.
+     */
+    public List<String> getUnavailableSections() {
+        return unavailableSections;
+    }
+
+    public void setUnavailableSections(List<String> unavailableSections) {
+        this.unavailableSections = unavailableSections;
+    }
+
     @Override
     public String toString() {
         return "DashboardDTO{" +
@@ -234,6 +248,7 @@ public class DashboardDTO implements Serializable {
             ", studentsPerGroup=" + studentsPerGroup +
             ", paymentsPerStatus=" + paymentsPerStatus +
             ", revenueOverview=" + revenueOverview +
+            ", unavailableSections=" + unavailableSections +
             '}';
     }
 }
@@ -0,0 +1,13 @@
+package com.student.management.service.dto;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * A DTO for the outcome of a payment import.
+ *
+ * @param imported the number of payments created.
+ * @param rejected the number of rows rejected.
+ * @param rows the outcome of each row, by line.
+ */
+public record PaymentImportResultDTO(int imported, int rejected, List<PaymentImportRowResultDTO> rows) implements Serializable {}
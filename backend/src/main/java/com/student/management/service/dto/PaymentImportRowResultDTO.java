@@ -0,0 +1,12 @@
+package com.student.management.service.dto;
+
+import java.io.Serializable;
+
+/**
+ * A DTO for the outcome of one row of a payment import.
+ *
+ * @param line the line of the row in the imported file, starting at 1.
+ * @param paymentId the id of the created payment, {@code null} if the row was rejected.
+ * @param error the reason why the row was rejected, {@code null} if the payment was created.
+ */
+public record PaymentImportRowResultDTO(long line, Long paymentId, String error) implements Serializable {}
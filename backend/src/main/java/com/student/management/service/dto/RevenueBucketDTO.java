@@ -0,0 +1,13 @@
+package com.student.management.service.dto;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * A DTO for the revenue of a time bucket.
+ *
+ * @param start the first day of the bucket.
+ * @param end the first day after the bucket.
+ * @param revenue the amount of the accepted payments dated within the bucket.
+ */
+public record RevenueBucketDTO(LocalDate start, LocalDate end, Double revenue) implements Serializable {}
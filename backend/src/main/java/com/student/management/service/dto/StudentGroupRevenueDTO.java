@@ -0,0 +1,12 @@
+package com.student.management.service.dto;
+
+import java.io.Serializable;
+
+/**
+ * A DTO for the revenue of a student group.
+ *
+ * @param studentGroupId the id of the group.
+ * @param studentGroupName the name of the group.
+ * @param revenue the amount of the accepted payments of the students of the group.
+ */
+public record StudentGroupRevenueDTO(Long studentGroupId, String studentGroupName, Double revenue) implements Serializable {}
@@ -0,0 +1,13 @@
+package com.student.management.service.dto;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * A DTO for the outcome of a student import.
+ *
+ * @param imported the number of students created.
+ * @param rejected the number of rows rejected.
+ * @param rows the outcome of each row, by line.
+ */
+public record StudentImportResultDTO(int imported, int rejected, List<StudentImportRowResultDTO> rows) implements Serializable {}
@@ -0,0 +1,13 @@
+package com.student.management.service.dto;
+
+import java.io.Serializable;
+
+/**
+ * A DTO for the outcome of one row of a student import.
+ *
+ * @param line the line of the row in the imported file, starting at 1.
+ * @param studentId the id of the created student and of its user, {@code null} if the row was rejected.
+ * @param login the login of the created user, {@code null} if the row was rejected.
+ * @param error the reason why the row was rejected, {@code null} if the student was created.
+ */
+public record StudentImportRowResultDTO(long line, Long studentId, String login, String error) implements Serializable {}
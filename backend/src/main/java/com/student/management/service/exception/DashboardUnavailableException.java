@@ -0,0 +1,13 @@
+package com.student.management.service.exception;
+
+/**
+ * Exception thrown when a dashboard section cannot be computed and partial dashboards are disabled.
+ */
+public class DashboardUnavailableException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public DashboardUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
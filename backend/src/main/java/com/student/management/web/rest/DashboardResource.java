@@ -1,14 +1,25 @@
 package com.student.management.web.rest;
 
+import com.student.management.repository.projection.ProfessorActivity;
+import com.student.management.repository.projection.RecentPayment;
 import com.student.management.service.DashboardService;
+import com.student.management.service.DashboardSnapshotCache;
+import com.student.management.service.RevenueBuckets;
 import com.student.management.service.dto.DashboardDTO;
+import com.student.management.service.dto.RevenueBucketDTO;
+import com.student.management.service.dto.StudentGroupRevenueDTO;
+import com.student.management.web.rest.errors.BadRequestAlertException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.ZoneId;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 
 /**
@@ -20,14 +31,25 @@ public class DashboardResource {
 
     private static final Logger LOG = LoggerFactory.getLogger(DashboardResource.class);
 
+    private static final String ENTITY_NAME = "dashboard";
+
+    /**
+     * Maximum number of buckets returned by the revenue statistics, which is about three years of days.
+     */
+    static final int MAX_REVENUE_BUCKETS = 1100;
+
     private final DashboardService dashboardService;
 
-    public DashboardResource(DashboardService dashboardService) {
+    private final DashboardSnapshotCache dashboardSnapshotCache;
+
+    public DashboardResource(DashboardService dashboardService, DashboardSnapshotCache dashboardSnapshotCache) {
         this.dashboardService = dashboardService;
+        this.dashboardSnapshotCache = dashboardSnapshotCache;
     }
 
     /**
      * {@code GET  /dashboard} : get all dashboard data.
+     * The data is served from a snapshot recomputed in the background after each relevant write.
      *
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the dashboard data.
      */
@@ -35,7 +57,7 @@ public class DashboardResource {
     @PreAuthorize("hasAnyAuthority('ROLE_ADMIN')")
     public ResponseEntity<DashboardDTO> getDashboard() {
         LOG.debug("REST request to get Dashboard data");
-        DashboardDTO dashboardData = dashboardService.getDashboardData();
+        DashboardDTO dashboardData = dashboardSnapshotCache.get();
         return ResponseEntity.ok().body(dashboardData);
     }
 
@@ -53,6 +75,71 @@ public class DashboardResource {
         return ResponseEntity.ok().body(revenueStats);
     }
 
+    /**
+     * {@code GET  /dashboard/revenue?granularity=} : get revenue statistics by time bucket.
+     *
+     * @param granularity the size of the buckets: {@code day}, {@code week}, {@code month} or {@code quarter}.
+     * @param zone the time zone in which days start (default UTC).
+     * @param from the first day of the range (default six months before {@code to}).
+     * @param to the last day of the range, included (default today in {@code zone}).
+     * Both days must be between 1970-01-01 and 9999-12-31.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the revenue of each bucket,
+     * or with status {@code 400 (Bad Request)} if the parameters are invalid.
+     */
+    @GetMapping(value = "/revenue", params = "granularity")
+    public ResponseEntity<List<RevenueBucketDTO>> getRevenueStatistics(
+        @RequestParam(name = "granularity") String granularity,
+        @RequestParam(name = "zone", defaultValue = "UTC") String zone,
+        @RequestParam(name = "from", required = false) LocalDate from,
+        @RequestParam(name = "to", required = false) LocalDate to) {
+        LOG.debug("REST request to get Revenue statistics by {} in {} from {} to {}", granularity, zone, from, to);
+        RevenueBuckets.Granularity bucketGranularity;
+        try {
+            bucketGranularity = RevenueBuckets.Granularity.valueOf(granularity.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestAlertException("Invalid granularity", ENTITY_NAME, "granularityinvalid");
+        }
+        ZoneId zoneId;
+        try {
+            zoneId = ZoneId.of(zone);
+        } catch (DateTimeException e) {
+            throw new BadRequestAlertException("Invalid time zone", ENTITY_NAME, "zoneinvalid");
+        }
+        LocalDate lastDay = to != null ? to : LocalDate.now(zoneId);
+        if (!RevenueBuckets.isSupported(lastDay)) {
+            throw new BadRequestAlertException("The range is out of the supported dates", ENTITY_NAME, "rangeinvalid");
+        }
+        LocalDate firstDay = from != null ? from : lastDay.minusMonths(6);
+        if (!RevenueBuckets.isSupported(firstDay)) {
+            throw new BadRequestAlertException("The range is out of the supported dates", ENTITY_NAME, "rangeinvalid");
+        }
+        if (lastDay.isBefore(firstDay)) {
+            throw new BadRequestAlertException("The range ends before it starts", ENTITY_NAME, "rangeinvalid");
+        }
+        if (RevenueBuckets.countBuckets(bucketGranularity, firstDay, lastDay) > MAX_REVENUE_BUCKETS) {
+            throw new BadRequestAlertException("Too many buckets in the range", ENTITY_NAME, "rangetoolarge");
+        }
+        List<RevenueBucketDTO> revenueStats = dashboardService.getRevenueStatistics(bucketGranularity, zoneId, firstDay, lastDay);
+        return ResponseEntity.ok().body(revenueStats);
+    }
+
+    /**
+     * {@code GET  /dashboard/top-groups} : get the student groups with the highest revenue.
+     *
+     * @param k the maximum number of groups to return (default 5).
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the groups, ordered by decreasing revenue,
+     * or with status {@code 400 (Bad Request)} if {@code k} is not positive.
+     */
+    @GetMapping("/top-groups")
+    public ResponseEntity<List<StudentGroupRevenueDTO>> getTopStudentGroups(@RequestParam(name = "k", defaultValue = "5") Integer k) {
+        LOG.debug("REST request to get the {} student groups with the highest revenue", k);
+        if (k < 1) {
+            throw new BadRequestAlertException("The number of groups must be positive", ENTITY_NAME, "kinvalid");
+        }
+        List<StudentGroupRevenueDTO> topStudentGroups = dashboardService.getTopStudentGroupsByRevenue(k);
+        return ResponseEntity.ok().body(topStudentGroups);
+    }
+
     /**
      * {@code GET  /dashboard/payments} : get recent payments.
      *
@@ -60,10 +147,10 @@ public class DashboardResource {
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the recent payments.
      */
     @GetMapping("/payments")
-    public ResponseEntity<List<Map<String, Object>>> getRecentPayments(
+    public ResponseEntity<List<RecentPayment>> getRecentPayments(
         @RequestParam(name = "limit", defaultValue = "10") Integer limit) {
         LOG.debug("REST request to get {} recent payments", limit);
-        List<Map<String, Object>> recentPayments = dashboardService.getRecentPayments(limit);
+        List<RecentPayment> recentPayments = dashboardService.getRecentPayments(limit);
         return ResponseEntity.ok().body(recentPayments);
     }
 
@@ -74,10 +161,10 @@ public class DashboardResource {
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the professor activities.
      */
     @GetMapping("/professor-activities")
-    public ResponseEntity<List<Map<String, Object>>> getProfessorActivities(
+    public ResponseEntity<List<ProfessorActivity>> getProfessorActivities(
         @RequestParam(name = "limit", defaultValue = "10") Integer limit) {
         LOG.debug("REST request to get {} professor activities", limit);
-        List<Map<String, Object>> professorActivities = dashboardService.getProfessorActivities(limit);
+        List<ProfessorActivity> professorActivities = dashboardService.getProfessorActivities(limit);
         return ResponseEntity.ok().body(professorActivities);
     }
 
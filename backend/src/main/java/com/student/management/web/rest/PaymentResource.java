@@ -2,11 +2,27 @@ package com.student.management.web.rest;
 
 import com.student.management.domain.Payment;
 import com.student.management.repository.PaymentRepository;
+import com.student.management.service.BulkFileFormat;
+import com.student.management.service.PaymentExportService;
+import com.student.management.service.PaymentImportService;
 import com.student.management.service.PaymentService;
+import com.student.management.service.dto.PaymentImportResultDTO;
 import com.student.management.web.rest.errors.BadRequestAlertException;
+import com.student.management.web.util.KeysetPaginationUtil;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
 import java.util.List;
+import java.util.Locale;
 import java.util.Objects;
 import java.util.Optional;
 import org.slf4j.Logger;
@@ -14,7 +30,9 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
@@ -40,9 +58,20 @@ public class PaymentResource {
 
     private final PaymentRepository paymentRepository;
 
-    public PaymentResource(PaymentService paymentService, PaymentRepository paymentRepository) {
+    private final PaymentImportService paymentImportService;
+
+    private final PaymentExportService paymentExportService;
+
+    public PaymentResource(
+        PaymentService paymentService,
+        PaymentRepository paymentRepository,
+        PaymentImportService paymentImportService,
+        PaymentExportService paymentExportService
+    ) {
         this.paymentService = paymentService;
         this.paymentRepository = paymentRepository;
+        this.paymentImportService = paymentImportService;
+        this.paymentExportService = paymentExportService;
     }
 
     /**
@@ -64,6 +93,27 @@ public class PaymentResource {
             .body(payment);
     }
 
+    /**
+     * {@code POST  /payments/bulk} : Import payments, one per line, as NDJSON or CSV.
+     * The body is read incrementally, and each row is reported as imported or rejected.
+     *
+     * @param contentType the type of the body, {@code application/x-ndjson} or {@code text/csv}, UTF-8 unless stated otherwise.
+     * @param body the imported payments.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the outcome of each row.
+     * @throws IOException if the body cannot be read.
+     */
+    @PostMapping(value = "/bulk", consumes = { "application/x-ndjson", "text/csv" })
+    public ResponseEntity<PaymentImportResultDTO> importPayments(@RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType, InputStream body)
+        throws IOException {
+        LOG.debug("REST request to import Payments from {}", contentType);
+        BulkFileFormat format = contentType.isCompatibleWith(MediaType.parseMediaType("text/csv"))
+            ? BulkFileFormat.CSV
+            : BulkFileFormat.NDJSON;
+        Charset charset = contentType.getCharset() != null ? contentType.getCharset() : StandardCharsets.UTF_8;
+        PaymentImportResultDTO result = paymentImportService.importPayments(new InputStreamReader(body, charset), format);
+        return ResponseEntity.ok().body(result);
+    }
+
     /**
      * {@code PUT  /payments/:id} : Updates an existing payment.
      *
@@ -145,6 +195,62 @@ public class PaymentResource {
         return ResponseEntity.ok().headers(headers).body(page.getContent());
     }
 
+    /**
+     * {@code GET  /payments?after=} : get a slice of the payments, latest first, without counting them.
+     *
+     * @param after the cursor of the next slice, from the {@code X-Next-Cursor} header, or empty for the first slice.
+     * @param size the maximum number of payments to return.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of payments in body,
+     * or with status {@code 400 (Bad Request)} if the cursor is invalid.
+     */
+    @GetMapping(value = "", params = "after")
+    public ResponseEntity<List<Payment>> getAllPaymentsAfter(
+        @RequestParam(name = "after") String after,
+        @RequestParam(name = "size", defaultValue = KeysetPaginationUtil.DEFAULT_SIZE) int size
+    ) {
+        LOG.debug("REST request to get a slice of Payments after : {}", after);
+        Instant date = null;
+        Long id = null;
+        if (!after.isEmpty()) {
+            try {
+                String[] keys = KeysetPaginationUtil.decodeCursor(after, 2);
+                date = keys[0] != null ? Instant.parse(keys[0]) : null;
+                id = Long.valueOf(keys[1]);
+            } catch (IllegalArgumentException | DateTimeParseException e) {
+                throw new BadRequestAlertException("Invalid cursor", ENTITY_NAME, "cursorinvalid");
+            }
+        }
+        Slice<Payment> slice = paymentService.findAllAfter(date, id, KeysetPaginationUtil.pageSize(size));
+        HttpHeaders headers = KeysetPaginationUtil.generateKeysetPaginationHttpHeaders(slice, payment ->
+            KeysetPaginationUtil.encodeCursor(payment.getDate(), payment.getId())
+        );
+        return ResponseEntity.ok().headers(headers).body(slice.getContent());
+    }
+
+    /**
+     * {@code GET  /payments/export} : export all the payments, streamed to the response as they are read.
+     *
+     * @param format the format of the export, {@code csv} (default) or {@code ndjson}.
+     * @param response the response receiving the payments.
+     * @throws IOException if the payments cannot be written.
+     */
+    @GetMapping("/export")
+    public void exportPayments(@RequestParam(name = "format", defaultValue = "csv") String format, HttpServletResponse response)
+        throws IOException {
+        LOG.debug("REST request to export Payments to {}", format);
+        BulkFileFormat paymentFileFormat;
+        try {
+            paymentFileFormat = BulkFileFormat.valueOf(format.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestAlertException("Invalid export format", ENTITY_NAME, "formatinvalid");
+        }
+        String extension = paymentFileFormat.name().toLowerCase(Locale.ROOT);
+        response.setContentType(paymentFileFormat == BulkFileFormat.CSV ? "text/csv;charset=UTF-8" : "application/x-ndjson;charset=UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"payments." + extension + "\"");
+        Writer writer = new OutputStreamWriter(response.getOutputStream(), StandardCharsets.UTF_8);
+        paymentExportService.exportPayments(writer, paymentFileFormat);
+    }
+
     /**
      * {@code GET  /payments/:id} : get the "id" payment.
      *
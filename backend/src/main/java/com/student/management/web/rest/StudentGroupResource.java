@@ -16,7 +16,6 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -219,18 +218,9 @@ public class StudentGroupResource {
         @RequestParam(name = "eagerload", required = false, defaultValue = "true") boolean eagerload
     ) {
         LOG.debug("REST request to get student groups for the current logged-in professor");
-        Page<StudentGroup> page = studentGroupService.findByCurrentProfessor(pageable);
-
-        // Apply eager loading if requested
-        if (eagerload) {
-            page = new PageImpl<>(
-                page.getContent().stream()
-                    .map(group -> studentGroupRepository.findOneWithEagerRelationships(group.getId()).orElse(group))
-                    .collect(java.util.stream.Collectors.toList()),
-                pageable,
-                page.getTotalElements()
-            );
-        }
+        Page<StudentGroup> page = eagerload
+            ? studentGroupService.findByCurrentProfessorWithEagerRelationships(pageable)
+            : studentGroupService.findByCurrentProfessor(pageable);
 
         HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(
             ServletUriComponentsBuilder.fromCurrentRequest(),
@@ -2,10 +2,19 @@ package com.student.management.web.rest;
 
 import com.student.management.domain.Student;
 import com.student.management.repository.StudentRepository;
+import com.student.management.service.BulkFileFormat;
+import com.student.management.service.StudentImportService;
 import com.student.management.service.StudentService;
+import com.student.management.service.dto.StudentImportResultDTO;
 import com.student.management.web.rest.errors.BadRequestAlertException;
+import com.student.management.web.util.KeysetPaginationUtil;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -14,7 +23,9 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
@@ -40,9 +51,12 @@ public class StudentResource {
 
     private final StudentRepository studentRepository;
 
-    public StudentResource(StudentService studentService, StudentRepository studentRepository) {
+    private final StudentImportService studentImportService;
+
+    public StudentResource(StudentService studentService, StudentRepository studentRepository, StudentImportService studentImportService) {
         this.studentService = studentService;
         this.studentRepository = studentRepository;
+        this.studentImportService = studentImportService;
     }
 
     /**
@@ -67,6 +81,29 @@ public class StudentResource {
             .body(student);
     }
 
+    /**
+     * {@code POST  /students/bulk} : Import students, one per line, as NDJSON or CSV, each with a new user.
+     * The body is read incrementally, and each row is reported as imported, with its id and login, or rejected.
+     * As for the users created by an administrator, the imported users get a reset key to choose their password,
+     * sent by email to the users having one.
+     *
+     * @param contentType the type of the body, {@code application/x-ndjson} or {@code text/csv}, UTF-8 unless stated otherwise.
+     * @param body the imported students.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the outcome of each row.
+     * @throws IOException if the body cannot be read.
+     */
+    @PostMapping(value = "/bulk", consumes = { "application/x-ndjson", "text/csv" })
+    public ResponseEntity<StudentImportResultDTO> importStudents(@RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType, InputStream body)
+        throws IOException {
+        LOG.debug("REST request to import Students from {}", contentType);
+        BulkFileFormat format = contentType.isCompatibleWith(MediaType.parseMediaType("text/csv"))
+            ? BulkFileFormat.CSV
+            : BulkFileFormat.NDJSON;
+        Charset charset = contentType.getCharset() != null ? contentType.getCharset() : StandardCharsets.UTF_8;
+        StudentImportResultDTO result = studentImportService.importStudents(new InputStreamReader(body, charset), format);
+        return ResponseEntity.ok().body(result);
+    }
+
     /**
      * {@code PUT  /students/:id} : Updates an existing student.
      *
@@ -160,6 +197,35 @@ public class StudentResource {
         return ResponseEntity.ok().headers(headers).body(page.getContent());
     }
 
+    /**
+     * {@code GET  /students?after=} : get a slice of the students with their user, by id, without counting them.
+     *
+     * @param after the cursor of the next slice, from the {@code X-Next-Cursor} header, or empty for the first slice.
+     * @param size the maximum number of students to return.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of students in body,
+     * or with status {@code 400 (Bad Request)} if the cursor is invalid.
+     */
+    @GetMapping(value = "", params = "after")
+    public ResponseEntity<List<Student>> getAllStudentsAfter(
+        @RequestParam(name = "after") String after,
+        @RequestParam(name = "size", defaultValue = KeysetPaginationUtil.DEFAULT_SIZE) int size
+    ) {
+        LOG.debug("REST request to get a slice of Students after : {}", after);
+        Long id = null;
+        if (!after.isEmpty()) {
+            try {
+                id = Long.valueOf(KeysetPaginationUtil.decodeCursor(after, 1)[0]);
+            } catch (IllegalArgumentException e) {
+                throw new BadRequestAlertException("Invalid cursor", ENTITY_NAME, "cursorinvalid");
+            }
+        }
+        Slice<Student> slice = studentService.findAllAfter(id, KeysetPaginationUtil.pageSize(size));
+        HttpHeaders headers = KeysetPaginationUtil.generateKeysetPaginationHttpHeaders(slice, student ->
+            KeysetPaginationUtil.encodeCursor(student.getId())
+        );
+        return ResponseEntity.ok().headers(headers).body(slice.getContent());
+    }
+
     /**
      * {@code GET  /students/:id} : get the "id" student.
      *
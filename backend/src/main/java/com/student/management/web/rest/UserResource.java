@@ -10,6 +10,7 @@ import com.student.management.service.dto.AdminUserDTO;
 import com.student.management.web.rest.errors.BadRequestAlertException;
 import com.student.management.web.rest.errors.EmailAlreadyUsedException;
 import com.student.management.web.rest.errors.LoginAlreadyUsedException;
+import com.student.management.web.util.KeysetPaginationUtil;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Pattern;
 import java.net.URI;
@@ -21,6 +22,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -176,6 +178,36 @@ public class UserResource {
         return new ResponseEntity<>(page.getContent(), headers, HttpStatus.OK);
     }
 
+    /**
+     * {@code GET /admin/users?after=} : get a slice of the users with all the details, by id, without counting them.
+     *
+     * @param after the cursor of the next slice, from the {@code X-Next-Cursor} header, or empty for the first slice.
+     * @param size the maximum number of users to return.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the users,
+     * or with status {@code 400 (Bad Request)} if the cursor is invalid.
+     */
+    @GetMapping(value = "/users", params = "after")
+    @PreAuthorize("hasAuthority(\"" + AuthoritiesConstants.ADMIN + "\")")
+    public ResponseEntity<List<AdminUserDTO>> getAllUsersAfter(
+        @RequestParam(name = "after") String after,
+        @RequestParam(name = "size", defaultValue = KeysetPaginationUtil.DEFAULT_SIZE) int size
+    ) {
+        LOG.debug("REST request to get a slice of User for an admin after : {}", after);
+        Long id = null;
+        if (!after.isEmpty()) {
+            try {
+                id = Long.valueOf(KeysetPaginationUtil.decodeCursor(after, 1)[0]);
+            } catch (IllegalArgumentException e) {
+                throw new BadRequestAlertException("Invalid cursor", "userManagement", "cursorinvalid");
+            }
+        }
+        Slice<AdminUserDTO> slice = userService.getAllManagedUsersAfter(id, KeysetPaginationUtil.pageSize(size));
+        HttpHeaders headers = KeysetPaginationUtil.generateKeysetPaginationHttpHeaders(slice, user ->
+            KeysetPaginationUtil.encodeCursor(user.getId())
+        );
+        return new ResponseEntity<>(slice.getContent(), headers, HttpStatus.OK);
+    }
+
     private boolean onlyContainsAllowedProperties(Pageable pageable) {
         return pageable.getSort().stream().map(Sort.Order::getProperty).allMatch(ALLOWED_ORDERED_PROPERTIES::contains);
     }
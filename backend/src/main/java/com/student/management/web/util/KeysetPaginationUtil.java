@@ -0,0 +1,95 @@
+package com.student.management.web.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.function.Function;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
+
+/**
+ * Utility class for handling keyset pagination.
+ * <p>
+ * A keyset page starts after the sort keys of the last row of the previous page, given as an opaque cursor,
+ * so that the database seeks to it through an index instead of skipping rows, and no count query is needed.
+ */
+public final class KeysetPaginationUtil {
+
+    /**
+     * Header holding the cursor of the next page, absent on the last page.
+     */
+    public static final String HEADER_X_NEXT_CURSOR = "X-Next-Cursor";
+
+    public static final String DEFAULT_SIZE = "20";
+
+    public static final int MAX_SIZE = 2000;
+
+    private static final String KEY_SEPARATOR = ",";
+
+    private KeysetPaginationUtil() {}
+
+    /**
+     * Encode the sort keys of a row into a cursor.
+     *
+     * @param keys the sort keys, which may be {@code null}.
+     * @return the opaque cursor.
+     */
+    public static String encodeCursor(Object... keys) {
+        StringBuilder cursor = new StringBuilder();
+        for (int i = 0; i < keys.length; i++) {
+            if (i > 0) {
+                cursor.append(KEY_SEPARATOR);
+            }
+            if (keys[i] != null) {
+                cursor.append(keys[i]);
+            }
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(cursor.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode the sort keys of a cursor.
+     *
+     * @param cursor the cursor.
+     * @param keyCount the expected number of keys.
+     * @return the keys, empty keys are {@code null}.
+     * @throws IllegalArgumentException if the cursor is malformed.
+     */
+    public static String[] decodeCursor(String cursor, int keyCount) {
+        String[] keys = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(KEY_SEPARATOR, -1);
+        if (keys.length != keyCount) {
+            throw new IllegalArgumentException("Expected " + keyCount + " keys in cursor " + cursor);
+        }
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i].isEmpty()) {
+                keys[i] = null;
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * Clamp a requested page size to the supported range.
+     *
+     * @param size the requested size.
+     * @return the size to use.
+     */
+    public static int pageSize(int size) {
+        return Math.max(1, Math.min(size, MAX_SIZE));
+    }
+
+    /**
+     * Generate the keyset pagination headers of a slice.
+     *
+     * @param slice the slice.
+     * @param cursorOf the function encoding the cursor of a row.
+     * @param <T> the type of the rows.
+     * @return the headers, with the cursor of the next page if there is one.
+     */
+    public static <T> HttpHeaders generateKeysetPaginationHttpHeaders(Slice<T> slice, Function<T, String> cursorOf) {
+        HttpHeaders headers = new HttpHeaders();
+        if (slice.hasNext() && slice.hasContent()) {
+            headers.add(HEADER_X_NEXT_CURSOR, cursorOf.apply(slice.getContent().get(slice.getNumberOfElements() - 1)));
+        }
+        return headers;
+    }
+}
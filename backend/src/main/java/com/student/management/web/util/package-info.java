@@ -0,0 +1,4 @@
+/**
+ * Utilities for the rest layer.
+ */
+package com.student.management.web.util;
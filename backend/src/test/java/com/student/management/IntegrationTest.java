@@ -3,6 +3,7 @@ package com.student.management;
 import com.student.management.config.AsyncSyncConfiguration;
 import com.student.management.config.EmbeddedSQL;
 import com.student.management.config.JacksonConfiguration;
+import com.student.management.config.SqlStatementCountingConfiguration;
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
@@ -14,7 +15,14 @@ import org.springframework.boot.test.context.SpringBootTest;
  */
 @Target(ElementType.TYPE)
 @Retention(RetentionPolicy.RUNTIME)
-@SpringBootTest(classes = { StudentManagementBackendApp.class, JacksonConfiguration.class, AsyncSyncConfiguration.class })
+@SpringBootTest(
+    classes = {
+        StudentManagementBackendApp.class,
+        JacksonConfiguration.class,
+        AsyncSyncConfiguration.class,
+        SqlStatementCountingConfiguration.class,
+    }
+)
 @EmbeddedSQL
 public @interface IntegrationTest {
 }
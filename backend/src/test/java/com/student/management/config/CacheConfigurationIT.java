@@ -0,0 +1,87 @@
+package com.student.management.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.student.management.IntegrationTest;
+import com.student.management.domain.Payment;
+import com.student.management.domain.StudentGroup;
+import com.student.management.domain.Subject;
+import com.student.management.domain.enumeration.Status;
+import com.student.management.service.PaymentRevenueRollupService;
+import com.student.management.service.PaymentService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests for the Hibernate second-level cache configured by {@link CacheConfiguration}.
+ */
+@IntegrationTest
+@Transactional
+class CacheConfigurationIT {
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private javax.cache.CacheManager cacheManager;
+
+    @Autowired
+    private PaymentService paymentService;
+
+    @Autowired
+    private PaymentRevenueRollupService paymentRevenueRollupService;
+
+    @Test
+    void referenceEntitiesAreCachedOnLoad() {
+        Subject subject = new Subject().name("Cached subject");
+        em.persist(subject);
+        StudentGroup studentGroup = new StudentGroup().name("Cached group");
+        studentGroup.addSubjects(subject);
+        em.persist(studentGroup);
+        em.flush();
+        em.clear();
+        entityManagerFactory.getCache().evictAll();
+
+        StudentGroup loaded = em.find(StudentGroup.class, studentGroup.getId());
+        assertThat(loaded.getSubjects()).hasSize(1);
+
+        assertThat(entityManagerFactory.getCache().contains(StudentGroup.class, studentGroup.getId())).isTrue();
+        assertThat(entityManagerFactory.getCache().contains(Subject.class, subject.getId())).isTrue();
+    }
+
+    @Test
+    void paymentWritesKeepReferenceEntitiesCached() {
+        Subject subject = new Subject().name("Cached subject");
+        em.persist(subject);
+        StudentGroup studentGroup = new StudentGroup().name("Cached group");
+        em.persist(studentGroup);
+        em.flush();
+        em.clear();
+        entityManagerFactory.getCache().evictAll();
+        em.find(Subject.class, subject.getId());
+        em.find(StudentGroup.class, studentGroup.getId());
+
+        // The rollup of the payment is written with native statements
+        Payment payment = paymentService.save(new Payment().amount(10.0).status(Status.ACCEPTED).date(Instant.now()));
+        paymentService.update(payment.amount(payment.getAmount() + 1));
+        paymentService.delete(payment.getId());
+        paymentRevenueRollupService.rebuild();
+        em.flush();
+
+        assertThat(entityManagerFactory.getCache().contains(Subject.class, subject.getId())).isTrue();
+        assertThat(entityManagerFactory.getCache().contains(StudentGroup.class, studentGroup.getId())).isTrue();
+    }
+
+    @Test
+    void cachesAreCreatedAtStartup() {
+        assertThat(cacheManager.getCache(Subject.class.getName())).isNotNull();
+        assertThat(cacheManager.getCache(StudentGroup.class.getName() + ".subjects")).isNotNull();
+    }
+}
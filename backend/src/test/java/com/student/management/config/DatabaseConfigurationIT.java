@@ -0,0 +1,104 @@
+package com.student.management.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.student.management.IntegrationTest;
+import com.student.management.service.DashboardService;
+import com.zaxxer.hikari.HikariDataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collections;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+
+/**
+ * Integration tests for the read/write splitting of {@link DatabaseConfiguration}, with a second MySQL container
+ * standing for the replica.
+ */
+@IntegrationTest
+class DatabaseConfigurationIT {
+
+    private static final MySQLContainer<?> replica = new MySQLContainer<>("mysql:9.0.1")
+        .withDatabaseName("studentManagementBackend")
+        .withTmpFs(Collections.singletonMap("/testtmpfs", "rw"));
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private HikariDataSource replicaDataSource;
+
+    @DynamicPropertySource
+    static void replicaProperties(DynamicPropertyRegistry registry) {
+        replica.start();
+        registry.add("spring.datasource.replica.jdbc-url", replica::getJdbcUrl);
+        registry.add("spring.datasource.replica.username", replica::getUsername);
+        registry.add("spring.datasource.replica.password", replica::getPassword);
+        registry.add("spring.datasource.replica.pool-name", () -> "HikariReplica");
+        registry.add("spring.datasource.replica.auto-commit", () -> "false");
+    }
+
+    @AfterAll
+    static void stopReplica() {
+        replica.stop();
+    }
+
+    @Test
+    void readOnlyTransactionsUseTheReplica() throws SQLException {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        assertThat(readOnly.execute(status -> serverUuid())).isEqualTo(replicaServerUuid());
+    }
+
+    @Test
+    void readWriteTransactionsUseThePrimary() throws SQLException {
+        TransactionTemplate readWrite = new TransactionTemplate(transactionManager);
+
+        assertThat(readWrite.execute(status -> serverUuid())).isNotEqualTo(replicaServerUuid());
+    }
+
+    @Test
+    void dashboardFromPrimaryUsesThePrimary() {
+        // The replica has no schema, the sections read from it are unavailable
+        assertThat(dashboardService.getDashboardData(false).getUnavailableSections()).isNotEmpty();
+        assertThat(dashboardService.getDashboardData(true).getUnavailableSections()).isEmpty();
+    }
+
+    @Test
+    void replicaPoolIsNamed() {
+        assertThat(replicaDataSource.getPoolName()).isEqualTo("HikariReplica");
+    }
+
+    private String serverUuid() {
+        return jdbcTemplate.queryForObject("select @@server_uuid", String.class);
+    }
+
+    private static String replicaServerUuid() throws SQLException {
+        try (
+            Connection connection = replica.createConnection("");
+            Statement statement = connection.createStatement();
+            ResultSet resultSet = statement.executeQuery("select @@server_uuid")
+        ) {
+            resultSet.next();
+            return resultSet.getString(1);
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package com.student.management.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Counts the SQL statements executed through the application datasource, by kind, so that integration tests can
+ * assert how many queries an endpoint runs and catch fetch plans regressing to one query per row.
+ * <p>
+ * The counts are global to the test JVM and include the work of other threads, such as the dashboard sections.
+ * Call {@link #reset()} once the dataset of a test is in place, then run the request and assert, e.g.
+ * {@code assertSelectCountAtMost(3)}.
+ * <p>
+ * The statements run by the current thread can also be {@link #capture(Runnable) captured} with their parameters,
+ * e.g. to {@code EXPLAIN} the SQL generated for a repository query.
+ */
+public final class SqlStatementCounter {
+
+    /**
+     * The kinds of counted statements, from the first keyword of their SQL.
+     */
+    public enum Kind {
+        SELECT,
+        INSERT,
+        UPDATE,
+        DELETE,
+        OTHER,
+    }
+
+    /**
+     * A statement executed while capturing, with the parameters bound to it in order.
+     */
+    public record CapturedStatement(String sql, List<Object> parameters) {}
+
+    private static final Map<Kind, AtomicLong> COUNTS = new EnumMap<>(Kind.class);
+
+    private static final ThreadLocal<List<CapturedStatement>> CAPTURED = new ThreadLocal<>();
+
+    static {
+        for (Kind kind : Kind.values()) {
+            COUNTS.put(kind, new AtomicLong());
+        }
+    }
+
+    private SqlStatementCounter() {}
+
+    /**
+     * Forget the statements counted so far.
+     */
+    public static void reset() {
+        COUNTS.values().forEach(count -> count.set(0));
+    }
+
+    /**
+     * Get the number of statements of a kind executed since the last {@link #reset()}.
+     *
+     * @param kind the kind of statements.
+     * @return the number of statements.
+     */
+    public static long count(Kind kind) {
+        return COUNTS.get(kind).get();
+    }
+
+    /**
+     * Run some work and collect the statements it executes on the current thread.
+     *
+     * @param work the work.
+     * @return the statements executed by the work, in order.
+     */
+    public static List<CapturedStatement> capture(Runnable work) {
+        List<CapturedStatement> captured = new ArrayList<>();
+        CAPTURED.set(captured);
+        try {
+            work.run();
+        } finally {
+            CAPTURED.remove();
+        }
+        return captured;
+    }
+
+    public static void assertSelectCountAtMost(long expected) {
+        assertCountAtMost(Kind.SELECT, expected);
+    }
+
+    public static void assertInsertCountAtMost(long expected) {
+        assertCountAtMost(Kind.INSERT, expected);
+    }
+
+    public static void assertUpdateCountAtMost(long expected) {
+        assertCountAtMost(Kind.UPDATE, expected);
+    }
+
+    public static void assertDeleteCountAtMost(long expected) {
+        assertCountAtMost(Kind.DELETE, expected);
+    }
+
+    public static void assertNoWrites() {
+        assertCountAtMost(Kind.INSERT, 0);
+        assertCountAtMost(Kind.UPDATE, 0);
+        assertCountAtMost(Kind.DELETE, 0);
+    }
+
+    private static void assertCountAtMost(Kind kind, long expected) {
+        assertThat(count(kind)).as("%s statements", kind).isLessThanOrEqualTo(expected);
+    }
+
+    /**
+     * Wrap a datasource so that the statements run on its connections are counted.
+     *
+     * @param dataSource the datasource.
+     * @return the counting datasource.
+     */
+    static DataSource wrap(DataSource dataSource) {
+        return new CountingDataSource(dataSource);
+    }
+
+    /**
+     * @param sql a statement.
+     * @return the kind of the statement.
+     */
+    public static Kind kindOf(String sql) {
+        String statement = sql.stripLeading().toLowerCase(Locale.ROOT);
+        if (statement.startsWith("select") || statement.startsWith("with")) {
+            return Kind.SELECT;
+        } else if (statement.startsWith("insert")) {
+            return Kind.INSERT;
+        } else if (statement.startsWith("update")) {
+            return Kind.UPDATE;
+        } else if (statement.startsWith("delete")) {
+            return Kind.DELETE;
+        }
+        return Kind.OTHER;
+    }
+
+    private static Connection countingConnection(Connection connection) {
+        return proxy(Connection.class, (proxy, method, args) -> {
+            if (method.getName().equals("equals")) {
+                return proxy == args[0];
+            } else if (method.getName().equals("hashCode")) {
+                return System.identityHashCode(proxy);
+            }
+            Object result = invoke(connection, method, args);
+            if (result instanceof Statement statement && !method.getName().equals("unwrap")) {
+                String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : null;
+                return countingStatement(statement, sql);
+            }
+            return result;
+        });
+    }
+
+    private static Statement countingStatement(Statement statement, String preparedSql) {
+        Class<? extends Statement> type = statement instanceof CallableStatement
+            ? CallableStatement.class
+            : statement instanceof PreparedStatement ? PreparedStatement.class : Statement.class;
+        Map<Integer, Object> parameters = new TreeMap<>();
+        return proxy(type, (proxy, method, args) -> {
+            if (method.getName().startsWith("execute")) {
+                String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : preparedSql;
+                COUNTS.get(sql != null ? kindOf(sql) : Kind.OTHER).incrementAndGet();
+                List<CapturedStatement> captured = CAPTURED.get();
+                if (captured != null && sql != null) {
+                    captured.add(new CapturedStatement(sql, new ArrayList<>(parameters.values())));
+                }
+            } else if (method.getName().startsWith("set") && args != null && args.length > 1 && args[0] instanceof Integer index) {
+                parameters.put(index, method.getName().equals("setNull") ? null : args[1]);
+            } else if (method.getName().equals("clearParameters")) {
+                parameters.clear();
+            }
+            return invoke(statement, method, args);
+        });
+    }
+
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(SqlStatementCounter.class.getClassLoader(), new Class<?>[] { type }, handler));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static final class CountingDataSource extends DelegatingDataSource {
+
+        private CountingDataSource(DataSource targetDataSource) {
+            super(targetDataSource);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return countingConnection(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return countingConnection(super.getConnection(username, password));
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.student.management.config;
+
+import javax.sql.DataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Wraps the application datasource with {@link SqlStatementCounter}, for the integration tests.
+ */
+@TestConfiguration
+public class SqlStatementCountingConfiguration {
+
+    private static final String DATA_SOURCE_BEAN_NAME = "dataSource";
+
+    @Bean
+    public static BeanPostProcessor sqlStatementCountingPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                // Only the datasource used by the application, which may route to other datasources
+                if (DATA_SOURCE_BEAN_NAME.equals(beanName) && bean instanceof DataSource dataSource) {
+                    return SqlStatementCounter.wrap(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,111 @@
+package com.student.management.management;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.student.management.IntegrationTest;
+import com.student.management.domain.Payment;
+import com.student.management.domain.Student;
+import com.student.management.domain.User;
+import com.student.management.domain.enumeration.Status;
+import com.student.management.security.AuthoritiesConstants;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import java.time.Instant;
+import java.util.Optional;
+import org.apache.commons.lang3.RandomStringUtils;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests for the per-request query counts of {@link QueryCountInterceptor}.
+ */
+@IntegrationTest
+@AutoConfigureMockMvc
+@WithMockUser(authorities = AuthoritiesConstants.ADMIN)
+@Transactional
+@TestPropertySource(
+    properties = { "application.query-instrumentation.enabled=true", "application.query-instrumentation.response-header=true" }
+)
+class QueryCountInterceptorIT {
+
+    private static final String HANDLER = "PaymentResource.getPayment";
+
+    private static final String REVENUE_HANDLER = "DashboardResource.getRevenueStatistics";
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private MockMvc restMockMvc;
+
+    @Test
+    void requestCountsAreReturnedAndRecorded() throws Exception {
+        User user = new User();
+        user.setLogin("query-counts-" + RandomStringUtils.randomAlphanumeric(8).toLowerCase());
+        user.setPassword(RandomStringUtils.randomAlphanumeric(60));
+        user.setActivated(true);
+        em.persist(user);
+        Student student = new Student();
+        student.setUser(user);
+        em.persist(student);
+        Payment payment = new Payment().amount(10.0).status(Status.ACCEPTED).date(Instant.now()).student(student);
+        em.persist(payment);
+        em.flush();
+        em.clear();
+        long requestsBefore = statements().map(DistributionSummary::count).orElse(0L);
+        double statementsBefore = statements().map(DistributionSummary::totalAmount).orElse(0.0);
+
+        restMockMvc
+            .perform(get("/api/payments/{id}", payment.getId()))
+            .andExpect(status().isOk())
+            .andExpect(header().string(QueryCountResponseHeaderAdvice.HEADER_NAME, startsWith("statements=1, ")));
+
+        assertThat(statements()).hasValueSatisfying(summary -> {
+            assertThat(summary.count()).isEqualTo(requestsBefore + 1);
+            assertThat(summary.totalAmount()).isEqualTo(statementsBefore + 1);
+        });
+        assertThat(meterRegistry.find(QueryCountInterceptor.JDBC_TIME_METER_NAME).tag(QueryCountInterceptor.HANDLER_DIMENSION, HANDLER).timer())
+            .isNotNull();
+        assertThat(QueryCounts.current()).isNull();
+    }
+
+    @Test
+    void jdbcTemplateStatementsAreCounted() throws Exception {
+        long requestsBefore = statements(REVENUE_HANDLER).map(DistributionSummary::count).orElse(0L);
+        double statementsBefore = statements(REVENUE_HANDLER).map(DistributionSummary::totalAmount).orElse(0.0);
+
+        // The revenue buckets are read by a single JdbcTemplate scan, which Hibernate does not see
+        restMockMvc
+            .perform(get("/api/dashboard/revenue").param("granularity", "month"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(QueryCountResponseHeaderAdvice.HEADER_NAME, startsWith("statements=1, ")));
+
+        assertThat(statements(REVENUE_HANDLER)).hasValueSatisfying(summary -> {
+            assertThat(summary.count()).isEqualTo(requestsBefore + 1);
+            assertThat(summary.totalAmount()).isEqualTo(statementsBefore + 1);
+        });
+    }
+
+    private Optional<DistributionSummary> statements() {
+        return statements(HANDLER);
+    }
+
+    private Optional<DistributionSummary> statements(String handler) {
+        return Optional.ofNullable(
+            meterRegistry.find(QueryCountInterceptor.STATEMENTS_METER_NAME).tag(QueryCountInterceptor.HANDLER_DIMENSION, handler).summary()
+        );
+    }
+}
@@ -0,0 +1,56 @@
+package com.student.management.repository;
+
+import com.student.management.domain.enumeration.Status;
+import jakarta.persistence.*;
+import java.io.Serializable;
+import java.time.Instant;
+
+/**
+ * A payment with its id generated by the auto-increment column, as before the pooled sequence, to benchmark
+ * the inserts of {@link com.student.management.domain.Payment} against.
+ */
+@Entity(name = "IdentityPayment")
+@Table(name = "payment")
+public class IdentityPayment implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "amount")
+    private Double amount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status")
+    private Status status;
+
+    @Column(name = "date")
+    private Instant date;
+
+    public IdentityPayment() {}
+
+    public IdentityPayment(Double amount, Status status, Instant date) {
+        this.amount = amount;
+        this.status = status;
+        this.date = date;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Double getAmount() {
+        return amount;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public Instant getDate() {
+        return date;
+    }
+}
@@ -0,0 +1,107 @@
+package com.student.management.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.student.management.IntegrationTest;
+import com.student.management.domain.Payment;
+import com.student.management.domain.enumeration.Status;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Benchmark of the ingestion of payments, run with {@code -Dbenchmarks=true}.
+ * <p>
+ * Compares ids allocated by a pooled sequence, with which inserts are sent in JDBC batches of
+ * {@code hibernate.jdbc.batch_size}, with the identity ids of {@link IdentityPayment}, which require one statement
+ * per payment.
+ */
+@IntegrationTest
+@Transactional
+@EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+class PaymentBatchInsertBenchmarkIT {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PaymentBatchInsertBenchmarkIT.class);
+
+    private static final int PAYMENTS = 5000;
+
+    private static final int BATCH_SIZE = 25;
+
+    private static final int ALLOCATION_SIZE = 50;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    public void enableStatistics() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @AfterEach
+    public void disableStatistics() {
+        statistics.setStatisticsEnabled(false);
+    }
+
+    @Test
+    void paymentInsertsAreBatched() {
+        // The sequence runs first, the auto-increment then continues after the highest id it allocated
+        long sequenceStatements = run("pooled sequence", i ->
+            new Payment().amount((double) i).status(Status.ACCEPTED).date(Instant.ofEpochSecond(i))
+        );
+        long identityStatements = run("identity", i -> new IdentityPayment((double) i, Status.ACCEPTED, Instant.ofEpochSecond(i)));
+
+        // One statement per batch of inserts, plus a select and an update of the sequence table per allocation of ids
+        assertThat(sequenceStatements).isLessThanOrEqualTo(PAYMENTS / BATCH_SIZE + 2 * (PAYMENTS / ALLOCATION_SIZE + 1));
+        assertThat(identityStatements).isGreaterThanOrEqualTo(PAYMENTS);
+    }
+
+    /**
+     * Insert payments with an id strategy, and log the time and statements spent.
+     *
+     * @return the number of statements run to insert the payments.
+     */
+    private long run(String strategy, IntFunction<Object> newPayment) {
+        List<Object> payments = new ArrayList<>(PAYMENTS);
+        for (int i = 0; i < PAYMENTS; i++) {
+            payments.add(newPayment.apply(i));
+        }
+
+        statistics.clear();
+        long start = System.nanoTime();
+        payments.forEach(em::persist);
+        em.flush();
+        long elapsed = System.nanoTime() - start;
+        long statements = statistics.getPrepareStatementCount();
+        em.clear();
+
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(PAYMENTS);
+        LOG.info(
+            "Inserted {} payments with {} ids: {} statements, {} ms, {} payments/s",
+            PAYMENTS,
+            strategy,
+            statements,
+            elapsed / 1_000_000,
+            PAYMENTS * 1_000_000_000L / elapsed
+        );
+        return statements;
+    }
+}
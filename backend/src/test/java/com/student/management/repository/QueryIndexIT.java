@@ -0,0 +1,188 @@
+package com.student.management.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.student.management.IntegrationTest;
+import com.student.management.config.SqlStatementCounter;
+import com.student.management.config.SqlStatementCounter.CapturedStatement;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests checking with {@code EXPLAIN} that the hot queries of the repositories are served by an index.
+ * <p>
+ * The repository methods are run, and the SQL they execute is explained with the parameters they bound, so that
+ * the tests follow the queries when they change. The tables are filled with enough rows for the optimizer to prefer
+ * an index over a full scan whenever one is usable.
+ */
+@IntegrationTest
+@Transactional
+class QueryIndexIT {
+
+    private static final int ROWS = 500;
+
+    private static final int STUDENTS = 50;
+
+    private static final long FIRST_ID = 1_000_000_000L;
+
+    private static final String SEQUENCE =
+        "with recursive seq (n) as (select 1 union all select n + 1 from seq where n < " + ROWS + ") ";
+
+    /**
+     * Matches a table of a {@code from} or {@code join} clause and its alias.
+     */
+    private static final Pattern TABLE_ALIAS = Pattern.compile("(?:from|join)\\s+`?(\\w+)`?\\s+(?:as\\s+)?(\\w+)");
+
+    private static final Instant CURSOR_DATE = Instant.parse("2000-01-01T05:00:00Z");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private CourseAssignmentRepository courseAssignmentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void fillTables() {
+        // The rows reference parents that do not exist, only the shape of the data matters to the optimizer
+        jdbcTemplate.execute("set foreign_key_checks = 0");
+        jdbcTemplate.update(
+            "insert into `user` (id, login, activated, activation_key, created_by, created_date) " +
+            SEQUENCE +
+            "select " +
+            FIRST_ID +
+            " + n, concat('query-index-', n), n % 10 <> 0, if(n % 10 = 0, concat('query-index-', n), null), 'system', " +
+            "timestampadd(hour, n, '2000-01-01 00:00:00') from seq"
+        );
+        // The students loaded with the payments exist, the payment queries fetch them
+        jdbcTemplate.update("insert into student (id) " + SEQUENCE + "select " + FIRST_ID + " + n from seq where n <= " + STUDENTS);
+        jdbcTemplate.update(
+            "insert into payment (id, amount, status, date, student_id) " +
+            SEQUENCE +
+            "select " +
+            FIRST_ID +
+            " + n, n, 'ACCEPTED', timestampadd(hour, n, '2000-01-01 00:00:00'), " +
+            FIRST_ID +
+            " + 1 + n % " +
+            STUDENTS +
+            " from seq"
+        );
+        jdbcTemplate.update(
+            "insert into course_assignment (id, student_group_id, subject_id, professor_id) " +
+            SEQUENCE +
+            "select " +
+            FIRST_ID +
+            " + n, " +
+            FIRST_ID +
+            " + n % 50, " +
+            FIRST_ID +
+            " + n % 40, " +
+            FIRST_ID +
+            " + n % 30 from seq"
+        );
+    }
+
+    @AfterEach
+    void restoreForeignKeyChecks() {
+        jdbcTemplate.execute("set foreign_key_checks = 1");
+    }
+
+    @Test
+    void recentPaymentsUseDateIndex() {
+        assertNoFullScan("payment", () -> paymentRepository.findAllOrderByDateDesc(PageRequest.of(0, 10)));
+        assertNoFullScan("payment", () -> paymentRepository.findRecentPayments(PageRequest.of(0, 10)));
+    }
+
+    @Test
+    void paymentsAfterCursorUseDateIndex() {
+        assertNoFullScan("payment", () -> paymentRepository.findAllAfter(CURSOR_DATE, FIRST_ID + 5, PageRequest.of(0, 21)));
+    }
+
+    @Test
+    void paymentsOfRangeUseDateIndex() {
+        Instant from = Instant.parse("2000-01-02T00:00:00Z");
+        Instant to = Instant.parse("2000-01-03T00:00:00Z");
+        assertNoFullScan(
+            "payment",
+            new CapturedStatement(
+                PaymentColumnRepository.SCAN_RANGE_QUERY,
+                List.of(ChronoUnit.MICROS.between(Instant.EPOCH, from), ChronoUnit.MICROS.between(Instant.EPOCH, to))
+            )
+        );
+    }
+
+    @Test
+    void paymentsOfStudentUseStudentIndex() {
+        assertNoFullScan("payment", () -> paymentRepository.findByStudentId(FIRST_ID + 1));
+    }
+
+    @Test
+    void courseAssignmentsUseForeignKeyIndexes() {
+        assertNoFullScan("course_assignment", () -> courseAssignmentRepository.findByProfessorId(FIRST_ID + 1));
+        assertNoFullScan("course_assignment", () -> courseAssignmentRepository.findByStudentGroupId(FIRST_ID + 1));
+        assertNoFullScan("course_assignment", () -> courseAssignmentRepository.findBySubjectId(FIRST_ID + 1));
+    }
+
+    @Test
+    void notActivatedUsersUseActivationIndex() {
+        assertNoFullScan("user", () ->
+            userRepository.findAllByActivatedIsFalseAndActivationKeyIsNotNullAndCreatedDateBefore(Instant.parse("2000-01-02T00:00:00Z"))
+        );
+    }
+
+    /**
+     * Run a repository query, then check that none of the statements it executed scans a whole table.
+     */
+    private void assertNoFullScan(String table, Runnable query) {
+        List<CapturedStatement> statements = SqlStatementCounter.capture(query)
+            .stream()
+            .filter(statement -> SqlStatementCounter.kindOf(statement.sql()) == SqlStatementCounter.Kind.SELECT)
+            .toList();
+        assertThat(statements).as("statements of the query").isNotEmpty();
+        statements.forEach(statement -> assertNoFullScan(table, statement));
+    }
+
+    private void assertNoFullScan(String table, CapturedStatement statement) {
+        String sql = statement.sql();
+        Set<String> names = tableNames(table, sql);
+        List<Map<String, Object>> plan = jdbcTemplate.queryForList("explain " + sql, statement.parameters().toArray());
+        assertThat(plan)
+            .filteredOn(step -> names.contains(step.get("table")))
+            .as("plan of %s", sql)
+            .isNotEmpty()
+            .allSatisfy(step -> assertThat(step.get("type")).as("access type of %s in %s", table, sql).isNotEqualTo("ALL"));
+    }
+
+    /**
+     * @return the names under which the plan of a statement shows a table, the table itself and its aliases.
+     */
+    private static Set<String> tableNames(String table, String sql) {
+        Set<String> names = new HashSet<>();
+        names.add(table);
+        Matcher matcher = TABLE_ALIAS.matcher(sql);
+        while (matcher.find()) {
+            if (matcher.group(1).equals(table)) {
+                names.add(matcher.group(2));
+            }
+        }
+        return names;
+    }
+}
@@ -0,0 +1,138 @@
+package com.student.management.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.student.management.IntegrationTest;
+import com.student.management.domain.StudentGroup;
+import com.student.management.domain.Subject;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Benchmark of the eager loading of the subjects of student groups, run with {@code -Dbenchmarks=true}.
+ * <p>
+ * Compares selecting the groups again with their subjects joined, as {@link StudentGroupRepositoryWithBagRelationshipsImpl}
+ * used to, with initializing the batch fetched {@code StudentGroup.subjects} in place.
+ */
+@IntegrationTest
+@Transactional
+@EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+class StudentGroupBagFetchBenchmarkIT {
+
+    private static final Logger LOG = LoggerFactory.getLogger(StudentGroupBagFetchBenchmarkIT.class);
+
+    private static final int GROUPS = 10_000;
+
+    private static final int SUBJECTS = 20;
+
+    private static final int BATCH_SIZE = 100;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private StudentGroupRepository studentGroupRepository;
+
+    private Statistics statistics;
+
+    private final List<Long> studentGroupIds = new ArrayList<>(GROUPS);
+
+    @BeforeEach
+    public void initTest() {
+        List<Subject> subjects = new ArrayList<>(SUBJECTS);
+        for (int i = 0; i < SUBJECTS; i++) {
+            Subject subject = new Subject().name("Subject " + i);
+            em.persist(subject);
+            subjects.add(subject);
+        }
+        for (int i = 0; i < GROUPS; i++) {
+            StudentGroup studentGroup = new StudentGroup()
+                .name("Group " + i)
+                .addSubjects(subjects.get(i % SUBJECTS))
+                .addSubjects(subjects.get((i + 1) % SUBJECTS));
+            em.persist(studentGroup);
+            studentGroupIds.add(studentGroup.getId());
+            if (i % 500 == 0) {
+                em.flush();
+                em.clear();
+            }
+        }
+        em.flush();
+        em.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @AfterEach
+    public void disableStatistics() {
+        statistics.setStatisticsEnabled(false);
+    }
+
+    @Test
+    void batchFetchingDoesNotSelectTheGroupsAgain() {
+        long reSelectStatements = run("re-select", this::reSelectWithSubjects);
+        long batchStatements = run("batch fetch", studentGroupRepository::fetchBagRelationships);
+
+        assertThat(batchStatements).isLessThanOrEqualTo((GROUPS + BATCH_SIZE - 1) / BATCH_SIZE);
+        assertThat(reSelectStatements).isEqualTo(1);
+    }
+
+    /**
+     * Load the groups, then their subjects with a strategy, and log the time and statements spent on the subjects.
+     *
+     * @return the number of statements run to load the subjects.
+     */
+    private long run(String strategy, Function<List<StudentGroup>, List<StudentGroup>> fetchSubjects) {
+        em.clear();
+        entityManagerFactory.getCache().evictAll();
+        List<StudentGroup> studentGroups = studentGroupRepository.findAllById(studentGroupIds);
+
+        statistics.clear();
+        long start = System.nanoTime();
+        List<StudentGroup> result = fetchSubjects.apply(studentGroups);
+        long elapsed = System.nanoTime() - start;
+        long statements = statistics.getPrepareStatementCount();
+
+        assertThat(result).hasSize(GROUPS).allSatisfy(studentGroup -> assertThat(Hibernate.isInitialized(studentGroup.getSubjects())).isTrue());
+        assertThat(result.get(0).getSubjects()).hasSize(2);
+        LOG.info("Fetched the subjects of {} groups by {}: {} statements, {} ms", GROUPS, strategy, statements, elapsed / 1_000_000);
+        return statements;
+    }
+
+    private List<StudentGroup> reSelectWithSubjects(List<StudentGroup> studentGroups) {
+        Map<Long, Integer> order = new HashMap<>();
+        for (int i = 0; i < studentGroups.size(); i++) {
+            order.put(studentGroups.get(i).getId(), i);
+        }
+        List<StudentGroup> result = em
+            .createQuery(
+                "select studentGroup from StudentGroup studentGroup left join fetch studentGroup.subjects where studentGroup in :studentGroups",
+                StudentGroup.class
+            )
+            .setParameter("studentGroups", studentGroups)
+            .getResultList();
+        Collections.sort(result, (o1, o2) -> Integer.compare(order.get(o1.getId()), order.get(o2.getId())));
+        return result;
+    }
+}
@@ -4,9 +4,11 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
 import com.student.management.IntegrationTest;
+import com.student.management.config.SqlStatementCounter;
 import com.student.management.domain.User;
 import com.student.management.repository.UserRepository;
 import com.student.management.service.UserService;
+import com.student.management.service.dto.AdminUserDTO;
 import java.util.Locale;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.junit.jupiter.api.AfterEach;
@@ -14,8 +16,10 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.CacheManager;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
@@ -42,6 +46,9 @@ class DomainUserDetailsServiceIT {
     @Qualifier("userDetailsService")
     private UserDetailsService domainUserDetailsService;
 
+    @Autowired
+    private CacheManager cacheManager;
+
     public User getUserOne() {
         User userOne = new User();
         userOne.setLogin(USER_ONE_LOGIN);
@@ -133,4 +140,33 @@ class DomainUserDetailsServiceIT {
             domainUserDetailsService.loadUserByUsername(USER_THREE_LOGIN)
         );
     }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void assertThatUsersAreCachedUntilChanged() {
+        domainUserDetailsService.loadUserByUsername(USER_ONE_LOGIN);
+        domainUserDetailsService.loadUserByUsername(USER_ONE_EMAIL);
+        assertThat(cacheManager.getCache(UserRepository.USERS_BY_LOGIN_CACHE).get(USER_ONE_LOGIN)).isNotNull();
+        assertThat(cacheManager.getCache(UserRepository.USERS_BY_EMAIL_CACHE).get(USER_ONE_EMAIL)).isNotNull();
+
+        SqlStatementCounter.reset();
+        UserDetails byLogin = domainUserDetailsService.loadUserByUsername(USER_ONE_LOGIN.toUpperCase(Locale.ENGLISH));
+        UserDetails byEmail = domainUserDetailsService.loadUserByUsername(USER_ONE_EMAIL.toUpperCase(Locale.ENGLISH));
+        SqlStatementCounter.assertSelectCountAtMost(0);
+        assertThat(byLogin.getUsername()).isEqualTo(USER_ONE_LOGIN);
+        assertThat(byEmail.getUsername()).isEqualTo(USER_ONE_LOGIN);
+
+        // The other lookups of the user are not cached
+        userRepository.findOneWithAuthoritiesByLogin(USER_ONE_LOGIN).orElseThrow();
+        userRepository.findOneWithAuthoritiesByEmailIgnoreCase(USER_ONE_EMAIL).orElseThrow();
+        assertThat(SqlStatementCounter.count(SqlStatementCounter.Kind.SELECT)).isGreaterThanOrEqualTo(2);
+
+        AdminUserDTO userDTO = new AdminUserDTO(userRepository.findOneWithAuthoritiesByLogin(USER_ONE_LOGIN).orElseThrow());
+        userDTO.setPassword("new-password");
+        userService.updateUser(userDTO);
+
+        assertThat(cacheManager.getCache(UserRepository.USERS_BY_LOGIN_CACHE).get(USER_ONE_LOGIN)).isNull();
+        assertThat(cacheManager.getCache(UserRepository.USERS_BY_EMAIL_CACHE).get(USER_ONE_EMAIL)).isNull();
+        assertThat(domainUserDetailsService.loadUserByUsername(USER_ONE_LOGIN).getPassword()).isNotEqualTo(byLogin.getPassword());
+    }
 }
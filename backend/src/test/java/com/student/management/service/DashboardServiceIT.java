@@ -0,0 +1,102 @@
+package com.student.management.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.student.management.IntegrationTest;
+import com.student.management.domain.Student;
+import com.student.management.domain.StudentGroup;
+import com.student.management.domain.User;
+import com.student.management.domain.enumeration.Status;
+import com.student.management.repository.PaymentRepository;
+import com.student.management.repository.ProfessorRepository;
+import com.student.management.repository.StudentGroupRepository;
+import com.student.management.repository.StudentRepository;
+import com.student.management.repository.SubjectRepository;
+import com.student.management.repository.projection.StudentGroupStudentCount;
+import com.student.management.service.dto.DashboardDTO;
+import jakarta.persistence.EntityManager;
+import java.util.Arrays;
+import java.util.List;
+import org.apache.commons.lang3.RandomStringUtils;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests for {@link DashboardService}.
+ * Not transactional: the dashboard sections run in their own transactions on other threads.
+ */
+@IntegrationTest
+class DashboardServiceIT {
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private ProfessorRepository professorRepository;
+
+    @Autowired
+    private StudentGroupRepository studentGroupRepository;
+
+    @Autowired
+    private SubjectRepository subjectRepository;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Test
+    void assertThatAllSectionsAreMerged() {
+        DashboardDTO dashboard = dashboardService.getDashboardData();
+
+        assertThat(dashboard.getUnavailableSections()).isEmpty();
+        assertThat(dashboard.getTotalStudents()).isEqualTo(studentRepository.count());
+        assertThat(dashboard.getTotalProfessors()).isEqualTo(professorRepository.count());
+        assertThat(dashboard.getTotalStudentGroups()).isEqualTo(studentGroupRepository.count());
+        assertThat(dashboard.getTotalSubjects()).isEqualTo(subjectRepository.count());
+        assertThat(dashboard.getTotalPayments()).isEqualTo(paymentRepository.count());
+        assertThat(dashboard.getPaymentsPerStatus()).containsOnlyKeys(Arrays.stream(Status.values()).map(Status::name).toList());
+        assertThat(dashboard.getRevenueByMonth()).hasSize(4);
+        assertThat(dashboard.getRevenueOverview()).isNotNull();
+        assertThat(dashboard.getLastPayments()).isNotNull();
+        assertThat(dashboard.getStudentsPerGroup()).hasSize((int) studentGroupRepository.count());
+        assertThat(dashboard.getProfessorActivities()).isNotNull();
+    }
+
+    @Test
+    @Transactional
+    void assertThatStudentsAreCountedPerGroup() {
+        StudentGroup studentGroup = new StudentGroup().name("AAAAAAAAAA");
+        em.persist(studentGroup);
+        StudentGroup emptyStudentGroup = new StudentGroup().name("BBBBBBBBBB");
+        em.persist(emptyStudentGroup);
+        for (int i = 0; i < 2; i++) {
+            User user = new User();
+            user.setLogin("dashboard_" + RandomStringUtils.randomAlphabetic(5).toLowerCase());
+            user.setPassword(RandomStringUtils.randomAlphanumeric(60));
+            user.setEmail(user.getLogin() + "@localhost");
+            user.setActivated(true);
+            em.persist(user);
+            Student student = new Student();
+            student.setUser(user);
+            student.setStudentGroup(studentGroup);
+            em.persist(student);
+        }
+        em.flush();
+
+        List<StudentGroupStudentCount> counts = studentRepository.countStudentsPerStudentGroup(
+            List.of(studentGroup.getId(), emptyStudentGroup.getId())
+        );
+
+        assertThat(counts).containsExactlyInAnyOrder(
+            new StudentGroupStudentCount(studentGroup.getId(), studentGroup.getName(), 2L),
+            new StudentGroupStudentCount(emptyStudentGroup.getId(), emptyStudentGroup.getName(), 0L)
+        );
+        assertThat(studentRepository.countStudentsPerStudentGroup()).containsAll(counts);
+    }
+}
@@ -0,0 +1,215 @@
+package com.student.management.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.student.management.domain.Payment;
+import com.student.management.service.dto.DashboardDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class DashboardSnapshotCacheTest {
+
+    private DashboardService dashboardService;
+
+    private MeterRegistry meterRegistry;
+
+    private ExecutorService recomputeExecutor;
+
+    private Instant now = Instant.parse("2024-01-31T23:59:00Z");
+
+    private DashboardSnapshotCache dashboardSnapshotCache;
+
+    @BeforeEach
+    public void setup() {
+        dashboardService = mock(DashboardService.class);
+        meterRegistry = new SimpleMeterRegistry();
+        recomputeExecutor = Executors.newSingleThreadExecutor();
+        Clock clock = mock(Clock.class);
+        when(clock.instant()).thenAnswer(invocation -> now);
+        dashboardSnapshotCache = new DashboardSnapshotCache(dashboardService, meterRegistry, recomputeExecutor, clock);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        dashboardSnapshotCache.shutdown();
+    }
+
+    @Test
+    void firstCallComputesTheSnapshotAndNextCallsReuseIt() {
+        DashboardDTO dashboard = new DashboardDTO();
+        when(dashboardService.getDashboardData(anyBoolean())).thenReturn(dashboard);
+
+        assertThat(dashboardSnapshotCache.get()).isSameAs(dashboard);
+        assertThat(dashboardSnapshotCache.get()).isSameAs(dashboard);
+        assertThat(dashboardSnapshotCache.get()).isSameAs(dashboard);
+
+        verify(dashboardService, times(1)).getDashboardData(anyBoolean());
+        assertThat(requests("miss")).isEqualTo(1);
+        assertThat(requests("hit")).isEqualTo(2);
+        assertThat(meterRegistry.get(DashboardSnapshotCache.RECOMPUTE_METER_NAME).timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void changeRecomputesTheSnapshotInTheBackground() throws Exception {
+        DashboardDTO before = new DashboardDTO();
+        DashboardDTO after = new DashboardDTO();
+        when(dashboardService.getDashboardData(anyBoolean())).thenReturn(before, after);
+        assertThat(dashboardSnapshotCache.get()).isSameAs(before);
+
+        dashboardSnapshotCache.onDashboardDataChanged(new DashboardDataChangedEvent(Payment.class));
+        awaitRecompute();
+
+        assertThat(dashboardSnapshotCache.get()).isSameAs(after);
+        verify(dashboardService, times(2)).getDashboardData(anyBoolean());
+    }
+
+    @Test
+    void snapshotIsRecomputedFromThePrimaryAfterAChange() throws Exception {
+        DashboardDTO fromReplica = new DashboardDTO();
+        DashboardDTO fromPrimary = new DashboardDTO();
+        when(dashboardService.getDashboardData(false)).thenReturn(fromReplica);
+        when(dashboardService.getDashboardData(true)).thenReturn(fromPrimary);
+        assertThat(dashboardSnapshotCache.get()).isSameAs(fromReplica);
+
+        dashboardSnapshotCache.onDashboardDataChanged(new DashboardDataChangedEvent(Payment.class));
+        awaitRecompute();
+
+        assertThat(dashboardSnapshotCache.get()).isSameAs(fromPrimary);
+    }
+
+    @Test
+    void snapshotIsRecomputedFromTheReplicaOnceTheChangeIsIncluded() throws Exception {
+        DashboardDTO fromReplica = new DashboardDTO();
+        DashboardDTO fromPrimary = new DashboardDTO();
+        when(dashboardService.getDashboardData(false)).thenReturn(fromReplica);
+        when(dashboardService.getDashboardData(true)).thenReturn(fromPrimary);
+        dashboardSnapshotCache.get();
+        dashboardSnapshotCache.onDashboardDataChanged(new DashboardDataChangedEvent(Payment.class));
+        awaitRecompute();
+        assertThat(dashboardSnapshotCache.get()).isSameAs(fromPrimary);
+
+        // A recompute without new change, here for a new month
+        now = Instant.parse("2024-02-01T00:01:00Z");
+        dashboardSnapshotCache.get();
+        awaitRecompute();
+
+        assertThat(dashboardSnapshotCache.get()).isSameAs(fromReplica);
+        verify(dashboardService, times(2)).getDashboardData(false);
+        verify(dashboardService, times(1)).getDashboardData(true);
+    }
+
+    @Test
+    void concurrentCallsShareTheSameComputation() throws Exception {
+        DashboardDTO dashboard = new DashboardDTO();
+        CountDownLatch computing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(dashboardService.getDashboardData(anyBoolean())).thenAnswer(invocation -> {
+            computing.countDown();
+            release.await();
+            return dashboard;
+        });
+
+        CompletableFuture<DashboardDTO> first = CompletableFuture.supplyAsync(dashboardSnapshotCache::get);
+        assertThat(computing.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<DashboardDTO> second = CompletableFuture.supplyAsync(dashboardSnapshotCache::get);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (requests("miss") < 2 && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isSameAs(dashboard);
+        assertThat(second.get(5, TimeUnit.SECONDS)).isSameAs(dashboard);
+        verify(dashboardService, times(1)).getDashboardData(anyBoolean());
+    }
+
+    @Test
+    void staleSnapshotIsServedWhileItIsRecomputed() throws Exception {
+        DashboardDTO before = new DashboardDTO();
+        DashboardDTO after = new DashboardDTO();
+        CountDownLatch release = new CountDownLatch(1);
+        when(dashboardService.getDashboardData(anyBoolean()))
+            .thenReturn(before)
+            .thenAnswer(invocation -> {
+                release.await();
+                return after;
+            });
+        dashboardSnapshotCache.get();
+
+        dashboardSnapshotCache.onDashboardDataChanged(new DashboardDataChangedEvent(Payment.class));
+
+        assertThat(dashboardSnapshotCache.get()).isSameAs(before);
+        release.countDown();
+        awaitRecompute();
+        assertThat(dashboardSnapshotCache.get()).isSameAs(after);
+    }
+
+    @Test
+    void partialSnapshotIsRecomputedOnNextCall() throws Exception {
+        DashboardDTO partial = new DashboardDTO();
+        partial.setUnavailableSections(List.of("payments"));
+        DashboardDTO complete = new DashboardDTO();
+        complete.setUnavailableSections(List.of());
+        when(dashboardService.getDashboardData(anyBoolean())).thenReturn(partial, complete);
+
+        assertThat(dashboardSnapshotCache.get()).isSameAs(partial);
+        assertThat(dashboardSnapshotCache.get()).isSameAs(partial);
+        awaitRecompute();
+
+        assertThat(dashboardSnapshotCache.get()).isSameAs(complete);
+        verify(dashboardService, times(2)).getDashboardData(anyBoolean());
+    }
+
+    @Test
+    void snapshotOfPreviousMonthIsRecomputed() throws Exception {
+        DashboardDTO january = new DashboardDTO();
+        DashboardDTO february = new DashboardDTO();
+        when(dashboardService.getDashboardData(anyBoolean())).thenReturn(january, february);
+        assertThat(dashboardSnapshotCache.get()).isSameAs(january);
+
+        now = Instant.parse("2024-02-01T00:01:00Z");
+        assertThat(dashboardSnapshotCache.get()).isSameAs(january);
+        awaitRecompute();
+
+        assertThat(dashboardSnapshotCache.get()).isSameAs(february);
+        assertThat(dashboardSnapshotCache.get()).isSameAs(february);
+        verify(dashboardService, times(2)).getDashboardData(anyBoolean());
+    }
+
+    @Test
+    void failedFirstComputationIsRethrown() {
+        when(dashboardService.getDashboardData(anyBoolean())).thenThrow(new IllegalStateException("database unavailable"));
+
+        assertThatThrownBy(dashboardSnapshotCache::get).isInstanceOf(IllegalStateException.class).hasMessage("database unavailable");
+    }
+
+    private double requests(String result) {
+        return meterRegistry
+            .get(DashboardSnapshotCache.REQUESTS_METER_NAME)
+            .tag(DashboardSnapshotCache.REQUESTS_METER_RESULT_DIMENSION, result)
+            .counter()
+            .count();
+    }
+
+    private void awaitRecompute() throws Exception {
+        // The executor is single threaded, so this task runs after the pending recompute
+        recomputeExecutor.submit(() -> {}).get(5, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,179 @@
+package com.student.management.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.student.management.IntegrationTest;
+import com.student.management.domain.Payment;
+import com.student.management.domain.PaymentRevenueRollup;
+import com.student.management.domain.PaymentRevenueRollupId;
+import com.student.management.domain.Student;
+import com.student.management.domain.StudentGroup;
+import com.student.management.domain.User;
+import com.student.management.domain.enumeration.Status;
+import com.student.management.repository.PaymentRevenueRollupRepository;
+import com.student.management.repository.projection.StatusAmount;
+import com.student.management.repository.projection.StudentGroupAmount;
+import jakarta.persistence.EntityManager;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import org.apache.commons.lang3.RandomStringUtils;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests for {@link PaymentRevenueRollupService}.
+ */
+@IntegrationTest
+@Transactional
+class PaymentRevenueRollupServiceIT {
+
+    private static final Instant MARCH_2020 = Instant.parse("2020-03-10T10:00:00Z");
+
+    private static final Instant APRIL_2020 = Instant.parse("2020-04-01T00:00:00Z");
+
+    private static final PaymentRevenueRollupId ACCEPTED_MARCH = new PaymentRevenueRollupId(
+        2020,
+        3,
+        Status.ACCEPTED,
+        PaymentRevenueRollup.NO_STUDENT_GROUP
+    );
+
+    private static final PaymentRevenueRollupId ACCEPTED_APRIL = new PaymentRevenueRollupId(
+        2020,
+        4,
+        Status.ACCEPTED,
+        PaymentRevenueRollup.NO_STUDENT_GROUP
+    );
+
+    private static final PaymentRevenueRollupId REFUSED_MARCH = new PaymentRevenueRollupId(
+        2020,
+        3,
+        Status.REFUSED,
+        PaymentRevenueRollup.NO_STUDENT_GROUP
+    );
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private PaymentService paymentService;
+
+    @Autowired
+    private PaymentRevenueRollupService paymentRevenueRollupService;
+
+    @Autowired
+    private PaymentRevenueRollupRepository paymentRevenueRollupRepository;
+
+    @Test
+    void assertThatSavedPaymentsAreAddedToTheirBucket() {
+        paymentRevenueRollupService.rebuild();
+
+        paymentService.save(new Payment().amount(10D).status(Status.ACCEPTED).date(MARCH_2020));
+        paymentService.save(new Payment().amount(5D).status(Status.ACCEPTED).date(MARCH_2020));
+
+        assertBucket(ACCEPTED_MARCH, 2L, 15D);
+    }
+
+    @Test
+    void assertThatUpdatedPaymentsMoveBetweenBuckets() {
+        paymentRevenueRollupService.rebuild();
+        Payment payment = paymentService.save(new Payment().amount(10D).status(Status.ACCEPTED).date(MARCH_2020));
+
+        paymentService.partialUpdate(new Payment().id(payment.getId()).status(Status.REFUSED));
+        assertBucket(ACCEPTED_MARCH, 0L, 0D);
+        assertBucket(REFUSED_MARCH, 1L, 10D);
+
+        paymentService.update(new Payment().id(payment.getId()).amount(20D).status(Status.ACCEPTED).date(APRIL_2020));
+        assertBucket(REFUSED_MARCH, 0L, 0D);
+        assertBucket(ACCEPTED_APRIL, 1L, 20D);
+    }
+
+    @Test
+    void assertThatDeletedPaymentsAreRemovedFromTheirBucket() {
+        paymentRevenueRollupService.rebuild();
+        Payment payment = paymentService.save(new Payment().amount(10D).status(Status.ACCEPTED).date(MARCH_2020));
+
+        paymentService.delete(payment.getId());
+
+        assertBucket(ACCEPTED_MARCH, 0L, 0D);
+    }
+
+    @Test
+    void assertThatRebuildMatchesIncrementalMaintenance() {
+        paymentRevenueRollupService.rebuild();
+        paymentService.save(new Payment().amount(10D).status(Status.ACCEPTED).date(MARCH_2020));
+        paymentService.save(new Payment().amount(7D).status(Status.REFUSED).date(MARCH_2020));
+        paymentService.save(new Payment().amount(3D).status(Status.ACCEPTED));
+        em.clear();
+        List<PaymentRevenueRollup> incremental = paymentRevenueRollupRepository
+            .findAll()
+            .stream()
+            .filter(bucket -> bucket.getPaymentCount() != 0)
+            .toList();
+
+        paymentRevenueRollupService.rebuild();
+        em.clear();
+
+        assertThat(paymentRevenueRollupRepository.findAll()).usingRecursiveFieldByFieldElementComparator().hasSameElementsAs(incremental);
+    }
+
+    @Test
+    void assertThatAmountsAreSummedPerStatusOverEveryMonth() {
+        paymentRevenueRollupService.rebuild();
+        Map<Status, StatusAmount> before = paymentRevenueRollupService.getAmountByStatus();
+
+        paymentService.save(new Payment().amount(10D).status(Status.ACCEPTED).date(MARCH_2020));
+        paymentService.save(new Payment().amount(5D).status(Status.ACCEPTED).date(APRIL_2020));
+        paymentService.save(new Payment().amount(7D).status(Status.REFUSED).date(MARCH_2020));
+
+        Map<Status, StatusAmount> after = paymentRevenueRollupService.getAmountByStatus();
+        assertThat(after.get(Status.ACCEPTED).paymentCount() - paymentCount(before, Status.ACCEPTED)).isEqualTo(2L);
+        assertThat(after.get(Status.ACCEPTED).amount() - amount(before, Status.ACCEPTED)).isEqualTo(15D);
+        assertThat(after.get(Status.REFUSED).paymentCount() - paymentCount(before, Status.REFUSED)).isEqualTo(1L);
+        assertThat(after.get(Status.REFUSED).amount() - amount(before, Status.REFUSED)).isEqualTo(7D);
+    }
+
+    @Test
+    void assertThatTopStudentGroupsAreSummedOverEveryMonth() {
+        StudentGroup studentGroup = new StudentGroup().name("rollup");
+        em.persist(studentGroup);
+        User user = new User();
+        user.setLogin("rollup-" + RandomStringUtils.randomAlphanumeric(8).toLowerCase());
+        user.setPassword(RandomStringUtils.randomAlphanumeric(60));
+        user.setActivated(true);
+        em.persist(user);
+        Student student = new Student();
+        student.setUser(user);
+        student.setStudentGroup(studentGroup);
+        em.persist(student);
+        paymentRevenueRollupService.rebuild();
+
+        // Larger than any other group revenue, so that the group comes first
+        paymentService.save(new Payment().amount(1e12).status(Status.ACCEPTED).date(MARCH_2020).student(student));
+        paymentService.save(new Payment().amount(1e12).status(Status.ACCEPTED).date(APRIL_2020).student(student));
+        paymentService.save(new Payment().amount(1e13).status(Status.REFUSED).date(APRIL_2020).student(student));
+        paymentService.save(new Payment().amount(1e14).status(Status.ACCEPTED).date(APRIL_2020));
+
+        assertThat(paymentRevenueRollupService.getTopStudentGroups(Status.ACCEPTED, 1)).containsExactly(
+            new StudentGroupAmount(studentGroup.getId(), 2e12)
+        );
+    }
+
+    private static long paymentCount(Map<Status, StatusAmount> amountByStatus, Status status) {
+        return amountByStatus.containsKey(status) ? amountByStatus.get(status).paymentCount() : 0L;
+    }
+
+    private static double amount(Map<Status, StatusAmount> amountByStatus, Status status) {
+        return amountByStatus.containsKey(status) ? amountByStatus.get(status).amount() : 0.0;
+    }
+
+    private void assertBucket(PaymentRevenueRollupId id, long paymentCount, double amount) {
+        // The rollup is written with native statements, so drop any bucket loaded by a previous assertion
+        em.clear();
+        PaymentRevenueRollup bucket = paymentRevenueRollupRepository.findById(id).orElseThrow();
+        assertThat(bucket.getPaymentCount()).isEqualTo(paymentCount);
+        assertThat(bucket.getAmount()).isEqualTo(amount);
+    }
+}
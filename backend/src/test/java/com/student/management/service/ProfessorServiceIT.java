@@ -0,0 +1,135 @@
+package com.student.management.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+
+import com.student.management.IntegrationTest;
+import com.student.management.domain.CourseAssignment;
+import com.student.management.domain.Professor;
+import com.student.management.domain.StudentGroup;
+import com.student.management.domain.Subject;
+import com.student.management.domain.User;
+import com.student.management.repository.CourseAssignmentRepository;
+import com.student.management.service.dto.ProfessorWithCourseAssignmentsDTO;
+import com.student.management.service.dto.ProfessorWithCourseAssignmentsDTO.StudentGroupDTO;
+import com.student.management.service.dto.ProfessorWithCourseAssignmentsDTO.SubjectDTO;
+import com.student.management.service.dto.ProfessorWithCourseAssignmentsDTO.SubjectGroupAssignmentDTO;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.commons.lang3.RandomStringUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests for {@link ProfessorService}.
+ */
+@IntegrationTest
+@Transactional
+class ProfessorServiceIT {
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private ProfessorService professorService;
+
+    @Autowired
+    private CourseAssignmentRepository courseAssignmentRepository;
+
+    private Professor professor;
+
+    private Subject math;
+
+    private Subject physics;
+
+    private StudentGroup firstGroup;
+
+    private StudentGroup secondGroup;
+
+    @BeforeEach
+    public void init() {
+        User user = new User();
+        user.setLogin("professor_" + RandomStringUtils.randomAlphabetic(8).toLowerCase());
+        user.setPassword(RandomStringUtils.randomAlphanumeric(60));
+        user.setEmail(user.getLogin() + "@localhost");
+        user.setActivated(true);
+        em.persist(user);
+        professor = new Professor();
+        professor.setUser(user);
+        em.persist(professor);
+
+        math = new Subject().name("Math");
+        physics = new Subject().name("Physics");
+        firstGroup = new StudentGroup().name("First group");
+        secondGroup = new StudentGroup().name("Second group");
+        em.persist(math);
+        em.persist(physics);
+        em.persist(firstGroup);
+        em.persist(secondGroup);
+        em.flush();
+    }
+
+    @Test
+    void updateWithCourseAssignmentsOnlyChangesTheDifference() {
+        professorService.updateWithCourseAssignments(assignments(subjectGroup(math, firstGroup.getId(), secondGroup.getId())));
+        em.flush();
+        CourseAssignment kept = courseAssignmentRepository
+            .findByProfessorIdIn(List.of(professor.getId()))
+            .stream()
+            .filter(courseAssignment -> courseAssignment.getStudentGroup().getId().equals(secondGroup.getId()))
+            .findFirst()
+            .orElseThrow();
+        em.clear();
+
+        List<CourseAssignment> result = professorService.updateWithCourseAssignments(
+            assignments(subjectGroup(math, secondGroup.getId()), subjectGroup(physics, firstGroup.getId(), Long.MAX_VALUE))
+        );
+        em.flush();
+        em.clear();
+
+        assertThat(result).hasSize(2);
+        assertThat(result.get(0).getId()).isEqualTo(kept.getId());
+        List<CourseAssignment> persisted = courseAssignmentRepository.findByProfessorIdIn(List.of(professor.getId()));
+        assertThat(persisted)
+            .extracting(courseAssignment -> courseAssignment.getSubject().getId(), courseAssignment -> courseAssignment.getStudentGroup().getId())
+            .containsExactlyInAnyOrder(tuple(math.getId(), secondGroup.getId()), tuple(physics.getId(), firstGroup.getId()));
+    }
+
+    @Test
+    void updateWithoutCourseAssignmentsRemovesThemAll() {
+        professorService.updateWithCourseAssignments(assignments(subjectGroup(math, firstGroup.getId(), secondGroup.getId())));
+        em.flush();
+
+        List<CourseAssignment> result = professorService.updateWithCourseAssignments(assignments());
+        em.flush();
+        em.clear();
+
+        assertThat(result).isEmpty();
+        assertThat(courseAssignmentRepository.findByProfessorIdIn(List.of(professor.getId()))).isEmpty();
+    }
+
+    private ProfessorWithCourseAssignmentsDTO assignments(SubjectGroupAssignmentDTO... subjectGroups) {
+        ProfessorWithCourseAssignmentsDTO dto = new ProfessorWithCourseAssignmentsDTO();
+        dto.setId(professor.getId());
+        dto.setSubjectGroups(List.of(subjectGroups));
+        return dto;
+    }
+
+    private static SubjectGroupAssignmentDTO subjectGroup(Subject subject, Long... studentGroupIds) {
+        SubjectDTO subjectDto = new SubjectDTO();
+        subjectDto.setId(subject.getId());
+        List<StudentGroupDTO> studentGroups = new ArrayList<>();
+        for (Long studentGroupId : studentGroupIds) {
+            StudentGroupDTO studentGroupDto = new StudentGroupDTO();
+            studentGroupDto.setId(studentGroupId);
+            studentGroups.add(studentGroupDto);
+        }
+        SubjectGroupAssignmentDTO subjectGroup = new SubjectGroupAssignmentDTO();
+        subjectGroup.setSubject(subjectDto);
+        subjectGroup.setStudentGroup(studentGroups);
+        return subjectGroup;
+    }
+}
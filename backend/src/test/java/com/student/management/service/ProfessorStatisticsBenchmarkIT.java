@@ -0,0 +1,123 @@
+package com.student.management.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.student.management.IntegrationTest;
+import com.student.management.domain.CourseAssignment;
+import com.student.management.domain.Professor;
+import com.student.management.domain.Student;
+import com.student.management.domain.StudentGroup;
+import com.student.management.domain.Subject;
+import com.student.management.domain.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.apache.commons.lang3.RandomStringUtils;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Benchmark of {@link DashboardService#getProfessorStatistics(Long)}, run with {@code -Dbenchmarks=true}.
+ */
+@IntegrationTest
+@Transactional
+@EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+class ProfessorStatisticsBenchmarkIT {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ProfessorStatisticsBenchmarkIT.class);
+
+    private static final int STUDENTS_PER_GROUP = 5;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    public void enableStatistics() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @AfterEach
+    public void disableStatistics() {
+        statistics.setStatisticsEnabled(false);
+    }
+
+    @Test
+    void statementCountDoesNotDependOnTheNumberOfGroups() {
+        Map<Integer, Long> statementsByGroupCount = new LinkedHashMap<>();
+        for (int groupCount : new int[] { 1, 10, 100 }) {
+            Long professorId = createProfessorTeaching(groupCount);
+            em.flush();
+            em.clear();
+
+            statistics.clear();
+            long start = System.nanoTime();
+            Map<String, Object> professorStatistics = dashboardService.getProfessorStatistics(professorId);
+            long elapsed = System.nanoTime() - start;
+
+            assertThat(professorStatistics).containsEntry("totalStudentGroups", (long) groupCount);
+            assertThat(professorStatistics).containsEntry("totalStudents", (long) groupCount * STUDENTS_PER_GROUP);
+            statementsByGroupCount.put(groupCount, statistics.getPrepareStatementCount());
+            LOG.info(
+                "Professor statistics for {} groups: {} statements, {} entities loaded, {} us",
+                groupCount,
+                statistics.getPrepareStatementCount(),
+                statistics.getEntityLoadCount(),
+                elapsed / 1000
+            );
+        }
+
+        assertThat(statementsByGroupCount.values()).containsOnly(2L);
+    }
+
+    private Long createProfessorTeaching(int groupCount) {
+        Professor professor = new Professor();
+        professor.setUser(createUser());
+        em.persist(professor);
+        Subject subject = new Subject().name("Subject " + RandomStringUtils.randomAlphabetic(5));
+        em.persist(subject);
+        for (int i = 0; i < groupCount; i++) {
+            StudentGroup studentGroup = new StudentGroup().name("Group " + i);
+            em.persist(studentGroup);
+            for (int j = 0; j < STUDENTS_PER_GROUP; j++) {
+                Student student = new Student();
+                student.setUser(createUser());
+                student.setStudentGroup(studentGroup);
+                em.persist(student);
+            }
+            CourseAssignment courseAssignment = new CourseAssignment();
+            courseAssignment.setProfessor(professor);
+            courseAssignment.setSubject(subject);
+            courseAssignment.setStudentGroup(studentGroup);
+            em.persist(courseAssignment);
+        }
+        return professor.getId();
+    }
+
+    private User createUser() {
+        User user = new User();
+        user.setLogin("benchmark_" + RandomStringUtils.randomAlphabetic(8).toLowerCase());
+        user.setPassword(RandomStringUtils.randomAlphanumeric(60));
+        user.setEmail(user.getLogin() + "@localhost");
+        user.setActivated(true);
+        em.persist(user);
+        return user;
+    }
+}
@@ -0,0 +1,83 @@
+package com.student.management.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.Test;
+
+class RevenueBucketsTest {
+
+    private static long date(String instant) {
+        return Instant.parse(instant).toEpochMilli();
+    }
+
+    @Test
+    void weeksStartOnMonday() {
+        // 2024-01-03 is a Wednesday
+        RevenueBuckets buckets = new RevenueBuckets(
+            RevenueBuckets.Granularity.WEEK,
+            ZoneOffset.UTC,
+            LocalDate.of(2024, 1, 3),
+            LocalDate.of(2024, 1, 15)
+        );
+
+        assertThat(buckets.size()).isEqualTo(3);
+        assertThat(buckets.getStart(0)).isEqualTo(LocalDate.of(2024, 1, 1));
+        assertThat(buckets.getEnd(2)).isEqualTo(LocalDate.of(2024, 1, 22));
+        assertThat(buckets.indexOf(date("2024-01-07T23:59:59.999Z"))).isZero();
+        assertThat(buckets.indexOf(date("2024-01-08T00:00:00Z"))).isEqualTo(1);
+        assertThat(buckets.indexOf(date("2024-01-21T12:00:00Z"))).isEqualTo(2);
+    }
+
+    @Test
+    void quartersCoverTheRange() {
+        RevenueBuckets buckets = new RevenueBuckets(
+            RevenueBuckets.Granularity.QUARTER,
+            ZoneOffset.UTC,
+            LocalDate.of(2023, 11, 20),
+            LocalDate.of(2024, 5, 1)
+        );
+
+        assertThat(buckets.size()).isEqualTo(3);
+        assertThat(buckets.getStart(0)).isEqualTo(LocalDate.of(2023, 10, 1));
+        assertThat(buckets.getStart(1)).isEqualTo(LocalDate.of(2024, 1, 1));
+        assertThat(buckets.getStart(2)).isEqualTo(LocalDate.of(2024, 4, 1));
+        assertThat(buckets.getTo()).isEqualTo(Instant.parse("2024-07-01T00:00:00Z"));
+        assertThat(RevenueBuckets.countBuckets(RevenueBuckets.Granularity.QUARTER, LocalDate.of(2023, 11, 20), LocalDate.of(2024, 5, 1)))
+            .isEqualTo(3);
+    }
+
+    @Test
+    void boundariesFollowTheZone() {
+        ZoneId paris = ZoneId.of("Europe/Paris");
+        RevenueBuckets buckets = new RevenueBuckets(RevenueBuckets.Granularity.MONTH, paris, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 2, 29));
+
+        assertThat(buckets.getFrom()).isEqualTo(Instant.parse("2023-12-31T23:00:00Z"));
+        assertThat(buckets.indexOf(date("2023-12-31T22:59:59Z"))).isEqualTo(-1);
+        assertThat(buckets.indexOf(date("2023-12-31T23:00:00Z"))).isZero();
+        assertThat(buckets.indexOf(date("2024-01-31T23:30:00Z"))).isEqualTo(1);
+        assertThat(buckets.indexOf(date("2024-02-29T23:00:00Z"))).isEqualTo(-1);
+    }
+
+    @Test
+    void rejectsRangeOutOfSupportedDates() {
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> new RevenueBuckets(RevenueBuckets.Granularity.DAY, ZoneOffset.UTC, LocalDate.MAX, LocalDate.MAX));
+        assertThatIllegalArgumentException()
+            .isThrownBy(() ->
+                new RevenueBuckets(RevenueBuckets.Granularity.DAY, ZoneOffset.UTC, LocalDate.of(1969, 12, 31), LocalDate.of(1970, 1, 1))
+            );
+    }
+
+    @Test
+    void rejectsReversedRange() {
+        assertThatIllegalArgumentException()
+            .isThrownBy(() ->
+                new RevenueBuckets(RevenueBuckets.Granularity.DAY, ZoneOffset.UTC, LocalDate.of(2024, 1, 2), LocalDate.of(2024, 1, 1))
+            );
+    }
+}
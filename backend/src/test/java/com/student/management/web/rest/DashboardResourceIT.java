@@ -0,0 +1,165 @@
+package com.student.management.web.rest;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.student.management.IntegrationTest;
+import com.student.management.domain.CourseAssignment;
+import com.student.management.domain.Payment;
+import com.student.management.domain.Professor;
+import com.student.management.domain.Student;
+import com.student.management.domain.StudentGroup;
+import com.student.management.domain.Subject;
+import com.student.management.domain.enumeration.Status;
+import com.student.management.service.PaymentRevenueRollupService;
+import jakarta.persistence.EntityManager;
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests for the {@link DashboardResource} REST controller.
+ */
+@IntegrationTest
+@AutoConfigureMockMvc
+@WithMockUser
+class DashboardResourceIT {
+
+    private static final String ENTITY_API_URL = "/api/dashboard";
+
+    // Later than any other payment, so that it comes first in the recent payments
+    private static final Instant LATEST_DATE = Instant.parse("2999-01-01T00:00:00Z");
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private MockMvc restDashboardMockMvc;
+
+    @Autowired
+    private PaymentRevenueRollupService paymentRevenueRollupService;
+
+    @Test
+    @Transactional
+    void getRecentPayments() throws Exception {
+        Student student = StudentResourceIT.createEntity(em);
+        em.persist(student);
+        Payment payment = PaymentResourceIT.createEntity().amount(42D).status(Status.ACCEPTED).date(LATEST_DATE).student(student);
+        em.persist(payment);
+        em.flush();
+
+        restDashboardMockMvc
+            .perform(get(ENTITY_API_URL + "/payments?limit=1"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$", hasSize(1)))
+            .andExpect(jsonPath("$[0].id").value(payment.getId().intValue()))
+            .andExpect(jsonPath("$[0].amount").value(42D))
+            .andExpect(jsonPath("$[0].status").value(Status.ACCEPTED.name()))
+            .andExpect(jsonPath("$[0].date").value(LATEST_DATE.toString()))
+            .andExpect(jsonPath("$[0].studentId").value(student.getId().intValue()))
+            .andExpect(jsonPath("$[0].studentName").value("john doe"));
+    }
+
+    @Test
+    @Transactional
+    void getProfessorActivities() throws Exception {
+        Professor professor = ProfessorResourceIT.createEntity(em);
+        em.persist(professor);
+        Subject subject = SubjectResourceIT.createEntity();
+        em.persist(subject);
+        StudentGroup studentGroup = StudentGroupResourceIT.createEntity();
+        em.persist(studentGroup);
+        CourseAssignment courseAssignment = new CourseAssignment();
+        courseAssignment.setProfessor(professor);
+        courseAssignment.setSubject(subject);
+        courseAssignment.setStudentGroup(studentGroup);
+        em.persist(courseAssignment);
+        em.flush();
+
+        restDashboardMockMvc
+            .perform(get(ENTITY_API_URL + "/professor-activities?limit=1"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$", hasSize(1)))
+            .andExpect(jsonPath("$[0].id").value(courseAssignment.getId().intValue()))
+            .andExpect(jsonPath("$[0].professorId").value(professor.getId().intValue()))
+            .andExpect(jsonPath("$[0].professorName").value("john doe"))
+            .andExpect(jsonPath("$[0].subjectName").value(subject.getName()))
+            .andExpect(jsonPath("$[0].studentGroupId").value(studentGroup.getId().intValue()))
+            .andExpect(jsonPath("$[0].studentGroupName").value(studentGroup.getName()));
+    }
+
+    @Test
+    @Transactional
+    void getRevenueStatisticsByDayInZone() throws Exception {
+        Student student = StudentResourceIT.createEntity(em);
+        em.persist(student);
+        em.persist(PaymentResourceIT.createEntity().amount(42D).status(Status.ACCEPTED).date(LATEST_DATE).student(student));
+        em.persist(PaymentResourceIT.createEntity().amount(8D).status(Status.PENDING).date(LATEST_DATE).student(student));
+        em.flush();
+
+        // Midnight UTC is still the previous day in New York
+        restDashboardMockMvc
+            .perform(get(ENTITY_API_URL + "/revenue?granularity=day&zone=America/New_York&from=2998-12-31&to=2999-01-01"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$", hasSize(2)))
+            .andExpect(jsonPath("$[0].start").value("2998-12-31"))
+            .andExpect(jsonPath("$[0].end").value("2999-01-01"))
+            .andExpect(jsonPath("$[0].revenue").value(42D))
+            .andExpect(jsonPath("$[1].start").value("2999-01-01"))
+            .andExpect(jsonPath("$[1].revenue").value(0D));
+    }
+
+    @Test
+    void getRevenueStatisticsWithInvalidParameters() throws Exception {
+        restDashboardMockMvc.perform(get(ENTITY_API_URL + "/revenue?granularity=decade")).andExpect(status().isBadRequest());
+        restDashboardMockMvc.perform(get(ENTITY_API_URL + "/revenue?granularity=day&zone=Nowhere")).andExpect(status().isBadRequest());
+        restDashboardMockMvc
+            .perform(get(ENTITY_API_URL + "/revenue?granularity=day&from=2020-02-01&to=2020-01-01"))
+            .andExpect(status().isBadRequest());
+        restDashboardMockMvc
+            .perform(get(ENTITY_API_URL + "/revenue?granularity=day&from=2000-01-01&to=2020-01-01"))
+            .andExpect(status().isBadRequest());
+        restDashboardMockMvc
+            .perform(get(ENTITY_API_URL + "/revenue?granularity=day").param("from", "+999999999-12-31").param("to", "+999999999-12-31"))
+            .andExpect(status().isBadRequest());
+        restDashboardMockMvc
+            .perform(get(ENTITY_API_URL + "/revenue?granularity=quarter").param("from", "-999999999-01-01").param("to", "2020-01-01"))
+            .andExpect(status().isBadRequest());
+        restDashboardMockMvc.perform(get(ENTITY_API_URL + "/revenue?granularity=day&to=1969-12-31")).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @Transactional
+    void getTopStudentGroups() throws Exception {
+        StudentGroup studentGroup = StudentGroupResourceIT.createEntity();
+        em.persist(studentGroup);
+        Student student = StudentResourceIT.createEntity(em).studentGroup(studentGroup);
+        em.persist(student);
+        // Larger than any other group revenue, so that the group comes first
+        em.persist(PaymentResourceIT.createEntity().amount(1e12).status(Status.ACCEPTED).date(LATEST_DATE).student(student));
+        em.persist(PaymentResourceIT.createEntity().amount(1e13).status(Status.PENDING).date(LATEST_DATE).student(student));
+        em.flush();
+        // The payments are persisted without the service, the revenue rollup is computed from them
+        paymentRevenueRollupService.rebuild();
+
+        restDashboardMockMvc
+            .perform(get(ENTITY_API_URL + "/top-groups?k=1"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$", hasSize(1)))
+            .andExpect(jsonPath("$[0].studentGroupId").value(studentGroup.getId().intValue()))
+            .andExpect(jsonPath("$[0].studentGroupName").value(studentGroup.getName()))
+            .andExpect(jsonPath("$[0].revenue").value(1e12));
+
+        restDashboardMockMvc.perform(get(ENTITY_API_URL + "/top-groups?k=0")).andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,187 @@
+package com.student.management.web.rest;
+
+import static com.student.management.config.SqlStatementCounter.assertNoWrites;
+import static com.student.management.config.SqlStatementCounter.assertSelectCountAtMost;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.student.management.IntegrationTest;
+import com.student.management.config.SqlStatementCounter;
+import com.student.management.domain.Payment;
+import com.student.management.domain.Student;
+import com.student.management.domain.StudentGroup;
+import com.student.management.domain.User;
+import com.student.management.security.AuthoritiesConstants;
+import com.student.management.web.util.KeysetPaginationUtil;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests counting, with {@link SqlStatementCounter}, the statements run by the read endpoints of payments
+ * and students not covered by the {@code getAll*RunsBoundedQueries} tests of their resources, so that their fetch
+ * plans cannot regress to one select per association, and checking that the update endpoints return the associations
+ * loaded.
+ */
+@IntegrationTest
+@AutoConfigureMockMvc
+@WithMockUser(authorities = AuthoritiesConstants.ADMIN)
+@Transactional
+class FetchPlanIT {
+
+    private static final int STUDENT_COUNT = 3;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private MockMvc restMockMvc;
+
+    @Autowired
+    private ObjectMapper om;
+
+    private StudentGroup studentGroup;
+
+    private final List<Student> students = new ArrayList<>();
+
+    private final List<Payment> payments = new ArrayList<>();
+
+    @BeforeEach
+    public void initTest() {
+        studentGroup = StudentGroupResourceIT.createEntity();
+        em.persist(studentGroup);
+        for (int i = 0; i < STUDENT_COUNT; i++) {
+            Student student = StudentResourceIT.createEntity(em);
+            student.setStudentGroup(studentGroup);
+            em.persist(student);
+            students.add(student);
+            Payment payment = PaymentResourceIT.createEntity();
+            payment.setStudent(student);
+            em.persist(payment);
+            payments.add(payment);
+        }
+        em.flush();
+        em.clear();
+        em.getEntityManagerFactory().getCache().evictAll();
+        SqlStatementCounter.reset();
+    }
+
+    @Test
+    void getAllPaymentsAfterCursor() throws Exception {
+        perform("/api/payments?after=&size=" + KeysetPaginationUtil.MAX_SIZE).andExpect(
+            jsonPath("$[?(@.id == " + payments.get(0).getId() + ")].student.user.login").isNotEmpty()
+        );
+
+        assertSelectCountAtMost(1);
+        assertNoWrites();
+    }
+
+    @Test
+    void getPayment() throws Exception {
+        perform("/api/payments/" + payments.get(0).getId()).andExpect(jsonPath("$.student.user.login").isString());
+
+        assertSelectCountAtMost(1);
+        assertNoWrites();
+    }
+
+    @Test
+    void getPaymentsByStudentId() throws Exception {
+        perform("/api/payments/student/" + students.get(0).getId()).andExpect(jsonPath("$[0].student.user.login").isString());
+
+        assertSelectCountAtMost(1);
+        assertNoWrites();
+    }
+
+    @Test
+    void updatePayment() throws Exception {
+        // As sent by the payment list, the student only by id
+        Payment payment = new Payment()
+            .id(payments.get(0).getId())
+            .amount(42.0)
+            .status(payments.get(0).getStatus())
+            .date(payments.get(0).getDate())
+            .student(new Student().id(students.get(0).getId()));
+
+        restMockMvc
+            .perform(put("/api/payments/" + payment.getId()).contentType(MediaType.APPLICATION_JSON).content(om.writeValueAsBytes(payment)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.amount").value(42.0))
+            .andExpect(jsonPath("$.student.user.firstName").isString())
+            .andExpect(jsonPath("$.student.user.login").value(students.get(0).getUser().getLogin()));
+    }
+
+    @Test
+    void getAllStudentsWithoutRelationships() throws Exception {
+        perform("/api/students?eagerload=false&size=2&sort=id,desc")
+            .andExpect(jsonPath("$[0].user.id").isNumber())
+            .andExpect(jsonPath("$[0].user.login").doesNotExist());
+
+        assertSelectCountAtMost(2);
+        assertNoWrites();
+    }
+
+    @Test
+    void getAllStudentsAfterCursor() throws Exception {
+        perform("/api/students?after=&size=" + KeysetPaginationUtil.MAX_SIZE)
+            .andExpect(jsonPath("$[?(@.id == " + students.get(0).getId() + ")].user.login").isNotEmpty())
+            .andExpect(jsonPath("$[?(@.id == " + students.get(0).getId() + ")].studentGroup.name").isNotEmpty());
+
+        assertSelectCountAtMost(1);
+        assertNoWrites();
+    }
+
+    @Test
+    void getStudent() throws Exception {
+        perform("/api/students/" + students.get(0).getId())
+            .andExpect(jsonPath("$.user.login").isString())
+            .andExpect(jsonPath("$.studentGroup.name").isString());
+
+        assertSelectCountAtMost(1);
+        assertNoWrites();
+    }
+
+    @Test
+    void updateStudent() throws Exception {
+        // The user and the group only by id
+        User user = new User();
+        user.setId(students.get(0).getId());
+        StudentGroup group = new StudentGroup();
+        group.setId(studentGroup.getId());
+        Student student = new Student().id(students.get(0).getId()).user(user).studentGroup(group);
+        student.setPhone("0123456789");
+
+        restMockMvc
+            .perform(put("/api/students/" + student.getId()).contentType(MediaType.APPLICATION_JSON).content(om.writeValueAsBytes(student)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.phone").value("0123456789"))
+            .andExpect(jsonPath("$.user.login").value(students.get(0).getUser().getLogin()))
+            .andExpect(jsonPath("$.studentGroup.name").value(studentGroup.getName()));
+    }
+
+    @Test
+    void getStudentGroupStudents() throws Exception {
+        perform("/api/student-groups/" + studentGroup.getId() + "/students?size=2")
+            .andExpect(jsonPath("$[0].user.login").isString())
+            .andExpect(jsonPath("$[0].studentGroup.name").isString());
+
+        // Existence of the group, page of students and their total
+        assertSelectCountAtMost(3);
+        assertNoWrites();
+    }
+
+    private ResultActions perform(String url) throws Exception {
+        return restMockMvc.perform(get(url)).andExpect(status().isOk());
+    }
+}
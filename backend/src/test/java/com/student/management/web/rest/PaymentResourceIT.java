@@ -1,17 +1,26 @@
 package com.student.management.web.rest;
 
+import static com.student.management.config.SqlStatementCounter.assertNoWrites;
+import static com.student.management.config.SqlStatementCounter.assertSelectCountAtMost;
 import static com.student.management.domain.PaymentAsserts.*;
 import static com.student.management.web.rest.TestUtil.createUpdateProxyForBean;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.startsWith;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.student.management.IntegrationTest;
+import com.student.management.config.SqlStatementCounter;
 import com.student.management.domain.Payment;
+import com.student.management.domain.Student;
+import com.student.management.domain.StudentGroup;
 import com.student.management.domain.enumeration.Status;
 import com.student.management.repository.PaymentRepository;
+import com.student.management.web.util.KeysetPaginationUtil;
 import jakarta.persistence.EntityManager;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
@@ -22,6 +31,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
@@ -47,6 +57,8 @@ class PaymentResourceIT {
     private static final String ENTITY_API_URL = "/api/payments";
     private static final String ENTITY_API_URL_ID = ENTITY_API_URL + "/{id}";
 
+    private static final int DATASET_SIZE = 120;
+
     private static Random random = new Random();
     private static AtomicLong longCount = new AtomicLong(random.nextInt() + (2 * Integer.MAX_VALUE));
 
@@ -155,6 +167,184 @@ class PaymentResourceIT {
             .andExpect(jsonPath("$.[*].date").value(hasItem(DEFAULT_DATE.toString())));
     }
 
+    @Test
+    @Transactional
+    void getAllPaymentsRunsBoundedQueries() throws Exception {
+        for (int i = 0; i < DATASET_SIZE; i++) {
+            Student student = StudentResourceIT.createEntity(em);
+            em.persist(student);
+            em.persist(createEntity().student(student));
+        }
+        em.flush();
+        em.clear();
+        em.getEntityManagerFactory().getCache().evictAll();
+        SqlStatementCounter.reset();
+
+        restPaymentMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc&size=" + DATASET_SIZE))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$", hasSize(DATASET_SIZE)))
+            .andExpect(jsonPath("$[" + (DATASET_SIZE - 1) + "].student.user.login").isString());
+
+        // The page of payments with their student and user, and the total
+        assertSelectCountAtMost(2);
+        assertNoWrites();
+    }
+
+    @Test
+    @Transactional
+    void importPaymentsFromCsv() throws Exception {
+        long databaseSizeBeforeImport = getRepositoryCount();
+        Student student = StudentResourceIT.createEntity(em);
+        em.persist(student);
+        em.flush();
+        String csv =
+            "date,amount,status,studentId\n" +
+            "2020-01-10T00:00:00Z,10.5,accepted," +
+            student.getId() +
+            "\n" +
+            "2020-01-11T00:00:00Z,3,PENDING,\n" +
+            "\n" +
+            "2020-01-12T00:00:00Z,not-an-amount,ACCEPTED," +
+            student.getId() +
+            "\n" +
+            "2020-01-13T00:00:00Z,4,ACCEPTED," +
+            Long.MAX_VALUE +
+            "\n";
+
+        restPaymentMockMvc
+            .perform(post(ENTITY_API_URL + "/bulk").contentType("text/csv").content(csv))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.imported").value(2))
+            .andExpect(jsonPath("$.rejected").value(2))
+            .andExpect(jsonPath("$.rows", hasSize(4)))
+            .andExpect(jsonPath("$.rows[0].line").value(2))
+            .andExpect(jsonPath("$.rows[0].paymentId").isNumber())
+            .andExpect(jsonPath("$.rows[1].line").value(3))
+            .andExpect(jsonPath("$.rows[1].paymentId").isNumber())
+            .andExpect(jsonPath("$.rows[2].line").value(5))
+            .andExpect(jsonPath("$.rows[2].error").isString())
+            .andExpect(jsonPath("$.rows[3].line").value(6))
+            .andExpect(jsonPath("$.rows[3].error").value("Unknown student " + Long.MAX_VALUE));
+
+        assertThat(getRepositoryCount()).isEqualTo(databaseSizeBeforeImport + 2);
+        assertThat(paymentRepository.findByStudentId(student.getId()))
+            .singleElement()
+            .satisfies(payment -> {
+                assertThat(payment.getAmount()).isEqualTo(10.5);
+                assertThat(payment.getStatus()).isEqualTo(Status.ACCEPTED);
+                assertThat(payment.getDate()).isEqualTo(Instant.parse("2020-01-10T00:00:00Z"));
+            });
+    }
+
+    @Test
+    @Transactional
+    void importPaymentsFromNdjson() throws Exception {
+        long databaseSizeBeforeImport = getRepositoryCount();
+        String ndjson =
+            "{\"amount\": 7, \"status\": \"ACCEPTED\", \"date\": \"2020-01-10T00:00:00Z\"}\n" +
+            "{\"amount\": 7, \"status\": \"ACCEPTED\"}\n";
+
+        restPaymentMockMvc
+            .perform(post(ENTITY_API_URL + "/bulk").contentType("application/x-ndjson").content(ndjson))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.imported").value(1))
+            .andExpect(jsonPath("$.rejected").value(1))
+            .andExpect(jsonPath("$.rows[1].error").value("Missing date"));
+
+        assertIncrementedRepositoryCount(databaseSizeBeforeImport);
+    }
+
+    @Test
+    @Transactional
+    void exportPayments() throws Exception {
+        insertedPayment = paymentRepository.saveAndFlush(payment);
+
+        restPaymentMockMvc
+            .perform(get(ENTITY_API_URL + "/export"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith("text/csv"))
+            .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"payments.csv\""))
+            .andExpect(content().string(startsWith("id,studentId,amount,status,date,")))
+            .andExpect(content().string(containsString("\n" + payment.getId() + ",," + DEFAULT_AMOUNT + "," + DEFAULT_STATUS + ",")));
+
+        restPaymentMockMvc
+            .perform(get(ENTITY_API_URL + "/export?format=ndjson"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+            .andExpect(content().string(containsString("{\"id\":" + payment.getId() + ",")));
+
+        restPaymentMockMvc.perform(get(ENTITY_API_URL + "/export?format=xml")).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @Transactional
+    void exportedCsvCanBeImportedBack() throws Exception {
+        StudentGroup studentGroup = StudentGroupResourceIT.createEntity().name("Group, \"A\"");
+        em.persist(studentGroup);
+        Student student = StudentResourceIT.createEntity(em).studentGroup(studentGroup);
+        student.getUser().setLastName("Doe, \"Jr\"\nthe second");
+        em.persist(student);
+        Payment exported = paymentRepository.saveAndFlush(createEntity().student(student));
+
+        String csv = restPaymentMockMvc
+            .perform(get(ENTITY_API_URL + "/export"))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+        // The header and the record of the payment, whose quoted values hold commas, quotes and a line break
+        String header = csv.substring(0, csv.indexOf('\n'));
+        int start = csv.indexOf("\n" + exported.getId() + ",") + 1;
+        String record = csv.substring(start, csv.indexOf('\n', csv.indexOf("\"Group, \"\"A\"\"\"", start)));
+        assertThat(record).contains("Doe, \"\"Jr\"\"\nthe second\"");
+
+        restPaymentMockMvc
+            .perform(post(ENTITY_API_URL + "/bulk").contentType("text/csv").content(header + "\n" + record + "\n"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.imported").value(1))
+            .andExpect(jsonPath("$.rejected").value(0))
+            .andExpect(jsonPath("$.rows[0].line").value(2));
+
+        assertThat(paymentRepository.findByStudentId(student.getId()))
+            .hasSize(2)
+            .allSatisfy(payment -> {
+                assertThat(payment.getAmount()).isEqualTo(exported.getAmount());
+                assertThat(payment.getStatus()).isEqualTo(exported.getStatus());
+                assertThat(payment.getDate()).isEqualTo(exported.getDate());
+            });
+    }
+
+    @Test
+    @Transactional
+    void getAllPaymentsAfterCursor() throws Exception {
+        // Later than any other payment, so that they come first
+        Payment latest = paymentRepository.saveAndFlush(createEntity().date(Instant.parse("3000-01-02T00:00:00Z")));
+        Payment sameDateFirst = paymentRepository.saveAndFlush(createEntity().date(Instant.parse("3000-01-01T00:00:00Z")));
+        Payment sameDateSecond = paymentRepository.saveAndFlush(createEntity().date(Instant.parse("3000-01-01T00:00:00Z")));
+
+        String nextCursor = restPaymentMockMvc
+            .perform(get(ENTITY_API_URL + "?after=&size=2"))
+            .andExpect(status().isOk())
+            .andExpect(header().doesNotExist("X-Total-Count"))
+            .andExpect(header().exists(KeysetPaginationUtil.HEADER_X_NEXT_CURSOR))
+            .andExpect(jsonPath("$", hasSize(2)))
+            .andExpect(jsonPath("$[0].id").value(latest.getId().intValue()))
+            .andExpect(jsonPath("$[1].id").value(sameDateSecond.getId().intValue()))
+            .andReturn()
+            .getResponse()
+            .getHeader(KeysetPaginationUtil.HEADER_X_NEXT_CURSOR);
+
+        // Same date, the lower id comes next
+        restPaymentMockMvc
+            .perform(get(ENTITY_API_URL + "?after=" + nextCursor + "&size=1"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$", hasSize(1)))
+            .andExpect(jsonPath("$[0].id").value(sameDateFirst.getId().intValue()));
+
+        restPaymentMockMvc.perform(get(ENTITY_API_URL + "?after=not-a-cursor")).andExpect(status().isBadRequest());
+    }
+
     @Test
     @Transactional
     void getPayment() throws Exception {
@@ -1,19 +1,27 @@
 package com.student.management.web.rest;
 
+import static com.student.management.config.SqlStatementCounter.assertNoWrites;
+import static com.student.management.config.SqlStatementCounter.assertSelectCountAtMost;
 import static com.student.management.domain.ProfessorAsserts.*;
 import static com.student.management.web.rest.TestUtil.createUpdateProxyForBean;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.student.management.IntegrationTest;
+import com.student.management.config.SqlStatementCounter;
+import com.student.management.domain.CourseAssignment;
 import com.student.management.domain.Professor;
+import com.student.management.domain.StudentGroup;
+import com.student.management.domain.Subject;
 import com.student.management.domain.User;
 import com.student.management.repository.ProfessorRepository;
 import com.student.management.repository.UserRepository;
+import com.student.management.security.AuthoritiesConstants;
 import com.student.management.service.ProfessorService;
 import jakarta.persistence.EntityManager;
 import java.util.ArrayList;
@@ -46,6 +54,8 @@ class ProfessorResourceIT {
     private static final String ENTITY_API_URL = "/api/professors";
     private static final String ENTITY_API_URL_ID = ENTITY_API_URL + "/{id}";
 
+    private static final int DATASET_SIZE = 120;
+
     private static Random random = new Random();
     private static AtomicLong longCount = new AtomicLong(random.nextInt() + (2 * Integer.MAX_VALUE));
 
@@ -213,6 +223,42 @@ class ProfessorResourceIT {
             .andExpect(jsonPath("$.[*].id").value(hasItem(professor.getId().intValue())));
     }
 
+    @Test
+    @Transactional
+    @WithMockUser(authorities = AuthoritiesConstants.ADMIN)
+    void getAllProfessorsRunsBoundedQueries() throws Exception {
+        Subject subject = SubjectResourceIT.createEntity();
+        em.persist(subject);
+        StudentGroup studentGroup = StudentGroupResourceIT.createEntity();
+        em.persist(studentGroup);
+        for (int i = 0; i < DATASET_SIZE; i++) {
+            Professor professor = createEntity(em);
+            em.persist(professor);
+            for (int j = 0; j < 2; j++) {
+                CourseAssignment courseAssignment = new CourseAssignment();
+                courseAssignment.setProfessor(professor);
+                courseAssignment.setSubject(subject);
+                courseAssignment.setStudentGroup(studentGroup);
+                em.persist(courseAssignment);
+            }
+        }
+        em.flush();
+        em.clear();
+        em.getEntityManagerFactory().getCache().evictAll();
+        SqlStatementCounter.reset();
+
+        restProfessorMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc&size=" + DATASET_SIZE))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$", hasSize(DATASET_SIZE)))
+            .andExpect(jsonPath("$[" + (DATASET_SIZE - 1) + "].courseAssignments[1].subject.name").isString())
+            .andExpect(jsonPath("$[" + (DATASET_SIZE - 1) + "].courseAssignments[1].studentGroup.name").isString());
+
+        // The page of professors, the total and the course assignments of the whole page
+        assertSelectCountAtMost(3);
+        assertNoWrites();
+    }
+
     @SuppressWarnings({ "unchecked" })
     void getAllProfessorsWithEagerRelationshipsIsEnabled() throws Exception {
         when(professorServiceMock.findAllWithEagerRelationships(any())).thenReturn(new PageImpl(new ArrayList<>()));
@@ -1,17 +1,23 @@
 package com.student.management.web.rest;
 
+import static com.student.management.config.SqlStatementCounter.assertNoWrites;
+import static com.student.management.config.SqlStatementCounter.assertSelectCountAtMost;
 import static com.student.management.domain.StudentGroupAsserts.*;
 import static com.student.management.web.rest.TestUtil.createUpdateProxyForBean;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.student.management.IntegrationTest;
+import com.student.management.config.SqlStatementCounter;
 import com.student.management.domain.StudentGroup;
+import com.student.management.domain.Subject;
 import com.student.management.repository.StudentGroupRepository;
+import com.student.management.security.AuthoritiesConstants;
 import com.student.management.service.StudentGroupService;
 import jakarta.persistence.EntityManager;
 import java.util.ArrayList;
@@ -50,6 +56,8 @@ class StudentGroupResourceIT {
     private static final String ENTITY_API_URL = "/api/student-groups";
     private static final String ENTITY_API_URL_ID = ENTITY_API_URL + "/{id}";
 
+    private static final int DATASET_SIZE = 120;
+
     private static Random random = new Random();
     private static AtomicLong longCount = new AtomicLong(random.nextInt() + (2 * Integer.MAX_VALUE));
 
@@ -163,6 +171,33 @@ class StudentGroupResourceIT {
             .andExpect(jsonPath("$.[*].description").value(hasItem(DEFAULT_DESCRIPTION)));
     }
 
+    @Test
+    @Transactional
+    @WithMockUser(authorities = AuthoritiesConstants.ADMIN)
+    void getAllStudentGroupsRunsBoundedQueries() throws Exception {
+        Subject math = SubjectResourceIT.createEntity();
+        Subject physics = SubjectResourceIT.createEntity();
+        em.persist(math);
+        em.persist(physics);
+        for (int i = 0; i < DATASET_SIZE; i++) {
+            em.persist(createEntity().addSubjects(math).addSubjects(physics));
+        }
+        em.flush();
+        em.clear();
+        em.getEntityManagerFactory().getCache().evictAll();
+        SqlStatementCounter.reset();
+
+        restStudentGroupMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc&size=" + DATASET_SIZE))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$", hasSize(DATASET_SIZE)))
+            .andExpect(jsonPath("$[" + (DATASET_SIZE - 1) + "].subjects", hasSize(2)));
+
+        // The page of groups, the total and the subjects of the page, in batches of 100 groups
+        assertSelectCountAtMost(4);
+        assertNoWrites();
+    }
+
     @SuppressWarnings({ "unchecked" })
     void getAllStudentGroupsWithEagerRelationshipsIsEnabled() throws Exception {
         when(studentGroupServiceMock.findAllWithEagerRelationships(any())).thenReturn(new PageImpl(new ArrayList<>()));
@@ -1,19 +1,27 @@
 package com.student.management.web.rest;
 
+import static com.student.management.config.SqlStatementCounter.assertNoWrites;
+import static com.student.management.config.SqlStatementCounter.assertSelectCountAtMost;
 import static com.student.management.domain.StudentAsserts.*;
 import static com.student.management.web.rest.TestUtil.createUpdateProxyForBean;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.student.management.IntegrationTest;
+import com.student.management.config.SqlStatementCounter;
+import com.student.management.domain.Authority;
 import com.student.management.domain.Student;
+import com.student.management.domain.StudentGroup;
 import com.student.management.domain.User;
 import com.student.management.repository.StudentRepository;
+import com.student.management.web.util.KeysetPaginationUtil;
 import com.student.management.repository.UserRepository;
+import com.student.management.security.AuthoritiesConstants;
 import com.student.management.service.StudentService;
 import jakarta.persistence.EntityManager;
 import java.util.ArrayList;
@@ -46,6 +54,8 @@ class StudentResourceIT {
     private static final String ENTITY_API_URL = "/api/students";
     private static final String ENTITY_API_URL_ID = ENTITY_API_URL + "/{id}";
 
+    private static final int DATASET_SIZE = 120;
+
     private static Random random = new Random();
     private static AtomicLong longCount = new AtomicLong(random.nextInt() + (2 * Integer.MAX_VALUE));
 
@@ -160,6 +170,116 @@ class StudentResourceIT {
         assertSameRepositoryCount(databaseSizeBeforeCreate);
     }
 
+    @Test
+    @Transactional
+    @WithMockUser(authorities = AuthoritiesConstants.ADMIN)
+    void importStudentsFromCsv() throws Exception {
+        long databaseSizeBeforeImport = getRepositoryCount();
+        StudentGroup studentGroup = StudentGroupResourceIT.createEntity().name("Imported " + longCount.incrementAndGet());
+        em.persist(studentGroup);
+        em.flush();
+        String csv =
+            "lastName,firstName,phone,studentGroup,email\n" +
+            "Doe,Jane,0612345678," +
+            studentGroup.getName().toUpperCase() +
+            ",jane.doe." +
+            longCount.incrementAndGet() +
+            "@localhost\n" +
+            "Doe,John,,,\n" +
+            "\n" +
+            "Doe,Jack,12345,,\n" +
+            "Doe,Jim,,Unknown group " +
+            longCount.incrementAndGet() +
+            ",\n";
+
+        restStudentMockMvc
+            .perform(post(ENTITY_API_URL + "/bulk").contentType("text/csv").content(csv))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.imported").value(2))
+            .andExpect(jsonPath("$.rejected").value(2))
+            .andExpect(jsonPath("$.rows", hasSize(4)))
+            .andExpect(jsonPath("$.rows[0].line").value(2))
+            .andExpect(jsonPath("$.rows[0].studentId").isNumber())
+            .andExpect(jsonPath("$.rows[1].line").value(3))
+            .andExpect(jsonPath("$.rows[1].login").isString())
+            .andExpect(jsonPath("$.rows[2].line").value(5))
+            .andExpect(jsonPath("$.rows[2].error").value("Phone number must be exactly 10 digits"))
+            .andExpect(jsonPath("$.rows[3].line").value(6))
+            .andExpect(jsonPath("$.rows[3].error").isString());
+
+        assertThat(getRepositoryCount()).isEqualTo(databaseSizeBeforeImport + 2);
+        assertThat(studentRepository.findByStudentGroupId(studentGroup.getId()))
+            .singleElement()
+            .satisfies(imported -> {
+                assertThat(imported.getPhone()).isEqualTo("0612345678");
+                User user = userRepository.findOneWithAuthoritiesByLogin("student" + imported.getId()).orElseThrow();
+                assertThat(user.getId()).isEqualTo(imported.getId());
+                assertThat(user.getFirstName()).isEqualTo("Jane");
+                assertThat(user.getLangKey()).isEqualTo("en");
+                assertThat(user.getAuthorities()).extracting(Authority::getName).containsExactly(AuthoritiesConstants.STUDENT);
+                // The account is completed by choosing a password with the reset key
+                assertThat(user.isActivated()).isTrue();
+                assertThat(user.getPassword()).isNotNull();
+                assertThat(user.getResetKey()).isNotNull();
+                assertThat(user.getResetDate()).isNotNull();
+            });
+    }
+
+    @Test
+    @Transactional
+    @WithMockUser(authorities = AuthoritiesConstants.ADMIN)
+    void importStudentsFromNdjson() throws Exception {
+        long databaseSizeBeforeImport = getRepositoryCount();
+        String email = "imported." + longCount.incrementAndGet() + "@localhost";
+        String ndjson =
+            "{\"firstName\": \"Jane\", \"lastName\": \"Doe\", \"email\": \"" +
+            email +
+            "\", \"langKey\": \"fr\"}\n" +
+            "{\"firstName\": \"John\", \"lastName\": \"Doe\", \"email\": \"" +
+            email.toUpperCase() +
+            "\"}\n" +
+            "{\"firstName\": \"Jack\"}\n";
+
+        restStudentMockMvc
+            .perform(post(ENTITY_API_URL + "/bulk").contentType("application/x-ndjson").content(ndjson))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.imported").value(1))
+            .andExpect(jsonPath("$.rejected").value(2))
+            .andExpect(jsonPath("$.rows[1].error").value("Duplicate email " + email))
+            .andExpect(jsonPath("$.rows[2].error").value("Missing last name"));
+
+        assertIncrementedRepositoryCount(databaseSizeBeforeImport);
+        assertThat(userRepository.findOneByEmailIgnoreCase(email)).hasValueSatisfying(user -> assertThat(user.getLangKey()).isEqualTo("fr"));
+    }
+
+    @Test
+    @Transactional
+    @WithMockUser(authorities = AuthoritiesConstants.ADMIN)
+    void importStudentsWithEmailUsedInAnotherCase() throws Exception {
+        long databaseSizeBeforeImport = getRepositoryCount();
+        // Stored as given, as the student and professor updates do
+        User existingUser = UserResourceIT.createEntity();
+        existingUser.setEmail("Used.Email." + longCount.incrementAndGet() + "@LocalHost");
+        em.persist(existingUser);
+        em.flush();
+        String email = existingUser.getEmail().toLowerCase();
+        String ndjson =
+            "{\"firstName\": \"Jane\", \"lastName\": \"Doe\", \"email\": \"" +
+            email +
+            "\"}\n" +
+            "{\"firstName\": \"John\", \"lastName\": \"Doe\"}\n";
+
+        restStudentMockMvc
+            .perform(post(ENTITY_API_URL + "/bulk").contentType("application/x-ndjson").content(ndjson))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.imported").value(1))
+            .andExpect(jsonPath("$.rejected").value(1))
+            .andExpect(jsonPath("$.rows[0].error").value("Email already used " + email))
+            .andExpect(jsonPath("$.rows[1].studentId").isNumber());
+
+        assertIncrementedRepositoryCount(databaseSizeBeforeImport);
+    }
+
     @Test
     @Transactional
     void updateStudentMapsIdAssociationWithNewId() throws Exception {
@@ -213,6 +333,56 @@ class StudentResourceIT {
             .andExpect(jsonPath("$.[*].id").value(hasItem(student.getId().intValue())));
     }
 
+    @Test
+    @Transactional
+    @WithMockUser(authorities = AuthoritiesConstants.ADMIN)
+    void getAllStudentsRunsBoundedQueries() throws Exception {
+        StudentGroup studentGroup = StudentGroupResourceIT.createEntity();
+        em.persist(studentGroup);
+        for (int i = 0; i < DATASET_SIZE; i++) {
+            em.persist(createEntity(em).studentGroup(studentGroup));
+        }
+        em.flush();
+        em.clear();
+        em.getEntityManagerFactory().getCache().evictAll();
+        SqlStatementCounter.reset();
+
+        restStudentMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc&size=" + DATASET_SIZE))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$", hasSize(DATASET_SIZE)))
+            .andExpect(jsonPath("$[" + (DATASET_SIZE - 1) + "].user.login").isString())
+            .andExpect(jsonPath("$[" + (DATASET_SIZE - 1) + "].studentGroup.name").isString());
+
+        // The page of students with their user and group, and the total
+        assertSelectCountAtMost(2);
+        assertNoWrites();
+    }
+
+    @Test
+    @Transactional
+    void getAllStudentsAfterCursor() throws Exception {
+        Student first = studentRepository.saveAndFlush(createEntity(em));
+        Student second = studentRepository.saveAndFlush(createEntity(em));
+
+        String nextCursor = restStudentMockMvc
+            .perform(get(ENTITY_API_URL + "?after=" + KeysetPaginationUtil.encodeCursor(first.getId() - 1) + "&size=1"))
+            .andExpect(status().isOk())
+            .andExpect(header().doesNotExist("X-Total-Count"))
+            .andExpect(jsonPath("$", hasSize(1)))
+            .andExpect(jsonPath("$[0].id").value(first.getId().intValue()))
+            .andReturn()
+            .getResponse()
+            .getHeader(KeysetPaginationUtil.HEADER_X_NEXT_CURSOR);
+
+        restStudentMockMvc
+            .perform(get(ENTITY_API_URL + "?after=" + nextCursor + "&size=1"))
+            .andExpect(status().isOk())
+            .andExpect(header().doesNotExist(KeysetPaginationUtil.HEADER_X_NEXT_CURSOR))
+            .andExpect(jsonPath("$", hasSize(1)))
+            .andExpect(jsonPath("$[0].id").value(second.getId().intValue()));
+    }
+
     @SuppressWarnings({ "unchecked" })
     void getAllStudentsWithEagerRelationshipsIsEnabled() throws Exception {
         when(studentServiceMock.findAllWithEagerRelationships(any())).thenReturn(new PageImpl(new ArrayList<>()));